@@ -0,0 +1,48 @@
+#!/usr/bin/env bash
+# 플랫폼 스레드 모드와 가상 스레드 모드에서 같은 부하를 걸고 처리량과 p99 를 비교한다.
+# 사용법: ./load-test/compare-thread-modes.sh [VUS] [DURATION]
+# 필요 조건: k6, 애플리케이션 실행에 필요한 환경 변수(REDIS_HOST, JWT_SECRET_KEY 등)
+set -euo pipefail
+
+VUS="${1:-1200}"
+DURATION="${2:-2m}"
+ROOT_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+RESULT_DIR="$ROOT_DIR/build/load-test"
+mkdir -p "$RESULT_DIR"
+
+(cd "$ROOT_DIR" && ./gradlew -q bootJar -x test)
+JAR="$(ls "$ROOT_DIR"/build/libs/*SNAPSHOT.jar | grep -v plain | head -n 1)"
+
+run_mode() {
+    local mode="$1"
+    local virtual="$2"
+
+    VIRTUAL_THREADS_ENABLED="$virtual" java -jar "$JAR" > "$RESULT_DIR/app-$mode.log" 2>&1 &
+    local app_pid=$!
+    trap 'kill $app_pid 2>/dev/null || true' RETURN
+
+    until curl -sf http://localhost:8080/actuator/health > /dev/null; do
+        sleep 1
+    done
+
+    k6 run --quiet \
+        -e BASE_URL=http://localhost:8080 -e VUS="$VUS" -e DURATION="$DURATION" \
+        --summary-export "$RESULT_DIR/summary-$mode.json" \
+        "$ROOT_DIR/load-test/read-mix.js"
+
+    kill "$app_pid"
+    wait "$app_pid" 2>/dev/null || true
+}
+
+run_mode platform false
+run_mode virtual true
+
+for mode in platform virtual; do
+    python3 - "$RESULT_DIR/summary-$mode.json" "$mode" <<'PY'
+import json, sys
+metrics = json.load(open(sys.argv[1]))["metrics"]
+duration = metrics["http_req_duration"]
+print(f"{sys.argv[2]:>8} | {metrics['http_reqs']['rate']:10.1f} req/s | p99 {duration['p(99)']:8.1f} ms"
+      f" | p95 {duration['p(95)']:8.1f} ms | 실패율 {metrics['http_req_failed']['value'] * 100:.2f}%")
+PY
+done
@@ -0,0 +1,70 @@
+import http from 'k6/http';
+import { check } from 'k6';
+
+// 게시글 조회 위주 부하 테스트. 동시 접속 수(VUS)만큼 요청을 끊임없이 보낸다.
+// 실행: k6 run -e BASE_URL=http://localhost:8080 -e VUS=1200 read-mix.js
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = Number(__ENV.VUS || 1200);
+const SEED_POSTS = Number(__ENV.SEED_POSTS || 200);
+
+export const options = {
+    scenarios: {
+        reads: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: VUS },
+                { duration: __ENV.DURATION || '2m', target: VUS },
+                { duration: '10s', target: 0 },
+            ],
+            gracefulRampDown: '10s',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+export function setup() {
+    const email = `loadtest-${Date.now()}@friendy.com`;
+    const password = 'password123!';
+    const json = { headers: { 'Content-Type': 'application/json' } };
+
+    http.post(`${BASE_URL}/signup`, JSON.stringify({
+        email: email,
+        nickname: `부하${Date.now() % 100000}`,
+        password: password,
+        birthDate: '2000-01-01',
+    }), json);
+    const login = http.post(`${BASE_URL}/auth/login`, JSON.stringify({ email: email, password: password }), json);
+    const authorization = login.headers['Authorization'];
+
+    const postIds = [];
+    for (let i = 0; i < SEED_POSTS; i++) {
+        const created = http.post(`${BASE_URL}/posts`, JSON.stringify({
+            content: `부하 테스트 게시글 ${i}`,
+            hashtags: ['부하테스트', `태그${i % 20}`],
+        }), { headers: { 'Content-Type': 'application/json', Authorization: authorization } });
+        const location = created.headers['Location'];
+        if (location) {
+            postIds.push(Number(location.split('/').pop()));
+        }
+    }
+    return { postIds: postIds };
+}
+
+export default function (data) {
+    const dice = Math.random();
+    let response;
+    if (dice < 0.6) {
+        response = http.get(`${BASE_URL}/posts/list?page=${Math.floor(Math.random() * 3)}`, { tags: { name: 'feed-hot' } });
+    } else if (dice < 0.8) {
+        response = http.get(`${BASE_URL}/posts/list?page=${3 + Math.floor(Math.random() * 10)}`, { tags: { name: 'feed-cold' } });
+    } else {
+        const postId = data.postIds[Math.floor(Math.random() * data.postIds.length)];
+        response = http.get(`${BASE_URL}/posts/${postId}`, { tags: { name: 'post' } });
+    }
+    check(response, { 'status is 200 or 404': (r) => r.status === 200 || r.status === 404 });
+}
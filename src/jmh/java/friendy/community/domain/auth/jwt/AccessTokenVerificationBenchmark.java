@@ -0,0 +1,68 @@
+package friendy.community.domain.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 액세스 토큰 검증 비용 비교.
+ * parserPerCall 은 기존 방식(검증과 이메일 추출에서 각각 파서를 만들고 두 번 파싱)을 재현한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AccessTokenVerificationBenchmark {
+
+    private static final String SECRET = "friendy-benchmark-access-token-secret-key-0123456789";
+    private static final String EMAIL_KEY = "email";
+
+    private SecretKey secretKey;
+    private JwtParser prebuiltParser;
+    private VerifiedTokenCache verifiedTokenCache;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        secretKey = new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), SignatureAlgorithm.HS256.getJcaName());
+        prebuiltParser = Jwts.parserBuilder().setSigningKey(secretKey).build();
+        verifiedTokenCache = new VerifiedTokenCache();
+        token = Jwts.builder()
+                .claim(EMAIL_KEY, "example@friendy.com")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(secretKey)
+                .compact();
+    }
+
+    @Benchmark
+    public String parserPerCall() {
+        Jwts.parserBuilder().setSigningKey(SECRET.getBytes(StandardCharsets.UTF_8)).build().parseClaimsJws(token);
+        return Jwts.parserBuilder().setSigningKey(SECRET.getBytes(StandardCharsets.UTF_8)).build()
+                .parseClaimsJws(token).getBody().get(EMAIL_KEY, String.class);
+    }
+
+    @Benchmark
+    public String prebuiltParser() {
+        return prebuiltParser.parseClaimsJws(token).getBody().get(EMAIL_KEY, String.class);
+    }
+
+    @Benchmark
+    public String cachedVerification() {
+        final VerifiedAccessToken cachedToken = verifiedTokenCache.get(token);
+        if (cachedToken != null) {
+            return cachedToken.email();
+        }
+        final Claims claims = prebuiltParser.parseClaimsJws(token).getBody();
+        final VerifiedAccessToken verifiedToken = new VerifiedAccessToken(null, claims.get(EMAIL_KEY, String.class), claims.getExpiration().toInstant());
+        verifiedTokenCache.put(token, verifiedToken);
+        return verifiedToken.email();
+    }
+}
@@ -0,0 +1,75 @@
+package friendy.community.domain.email.template;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 메일 본문 생성 비용 비교. 기존 경로는 thymeleaf.cache=false 설정대로 매번 템플릿을 다시 파싱한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VerificationEmailRenderingBenchmark {
+
+    private static final String AUTH_CODE = "123456";
+
+    private SpringTemplateEngine templateEngine;
+    private VerificationEmailTemplate verificationEmailTemplate;
+    private Session session;
+
+    @Setup
+    public void setUp() {
+        final ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setCharacterEncoding("UTF-8");
+        templateResolver.setCacheable(false);
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+
+        verificationEmailTemplate = new VerificationEmailTemplate(templateEngine);
+        verificationEmailTemplate.compile();
+        session = Session.getInstance(new Properties());
+    }
+
+    @Benchmark
+    public String templateEngineBody() {
+        final Context context = new Context();
+        context.setVariable("authCode", AUTH_CODE);
+        return templateEngine.process("email", context);
+    }
+
+    @Benchmark
+    public String precompiledBody() {
+        return verificationEmailTemplate.render(AUTH_CODE);
+    }
+
+    @Benchmark
+    public MimeMessage templateEngineMimeMessage() throws MessagingException {
+        final MimeMessage message = new MimeMessage(session);
+        final MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        helper.setTo("test@example.com");
+        helper.setSubject("Friendy Community 이메일 인증 코드");
+        helper.setText(templateEngineBody(), true);
+        return message;
+    }
+
+    @Benchmark
+    public MimeMessage precompiledMimeMessage() throws MessagingException {
+        final MimeMessage message = new MimeMessage(session);
+        final MimeMessageHelper helper = new MimeMessageHelper(message, "UTF-8");
+        helper.setTo("test@example.com");
+        helper.setSubject("Friendy Community 이메일 인증 코드");
+        helper.setText(precompiledBody(), true);
+        return message;
+    }
+}
@@ -0,0 +1,40 @@
+package friendy.community.domain.hashtag.index;
+
+import friendy.community.domain.hashtag.dto.response.HashtagResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 해시태그 10만 개 기준 자동완성 응답 시간 (목표: 1ms 미만).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HashtagPrefixIndexBenchmark {
+
+    private static final int HASHTAG_COUNT = 100_000;
+
+    @Param({"t", "tag1", "tag12345"})
+    private String prefix;
+
+    private HashtagPrefixIndex hashtagPrefixIndex;
+
+    @Setup
+    public void setUp() {
+        hashtagPrefixIndex = new HashtagPrefixIndex(null);
+        for (int i = 0; i < HASHTAG_COUNT; i++) {
+            final List<String> names = new ArrayList<>();
+            names.add("tag" + i);
+            hashtagPrefixIndex.addUsagesAfterCommit(names, ThreadLocalRandom.current().nextInt(1, 1_000));
+        }
+    }
+
+    @Benchmark
+    public List<HashtagResponse> suggest() {
+        return hashtagPrefixIndex.suggest(prefix, 10);
+    }
+}
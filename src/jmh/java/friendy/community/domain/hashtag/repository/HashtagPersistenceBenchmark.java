@@ -0,0 +1,82 @@
+package friendy.community.domain.hashtag.repository;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 해시태그 30개가 달린 게시글 하나를 저장하는 비용 비교 (1 op = 게시글 1건).
+ * 초당 INSERT 수는 ops/s × 해시태그 수(30) 로 환산한다.
+ * rowByRow 는 기존 방식(이름 조회 후 해시태그와 매핑을 한 행씩 INSERT)을 재현한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class HashtagPersistenceBenchmark {
+
+    private static final int HASHTAG_COUNT = 30;
+    private static final int POPULAR_HASHTAG_COUNT = 20;
+
+    private final AtomicLong postIdSequence = new AtomicLong();
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private HashtagJdbcRepository hashtagJdbcRepository;
+
+    @Setup
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:hashtag-bench;MODE=MySQL;DATABASE_TO_LOWER=TRUE", "sa", "", true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE hashtag (id BIGINT AUTO_INCREMENT PRIMARY KEY, name VARCHAR(255) NOT NULL UNIQUE)");
+        jdbcTemplate.execute("CREATE TABLE post_hashtag (post_id BIGINT NOT NULL, hashtag_id BIGINT NOT NULL, PRIMARY KEY (post_id, hashtag_id))");
+        hashtagJdbcRepository = new HashtagJdbcRepository(jdbcTemplate);
+    }
+
+    @TearDown
+    public void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public void rowByRow() {
+        final long postId = postIdSequence.incrementAndGet();
+        for (String name : hashtagNames(postId)) {
+            final List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM hashtag WHERE name = ?", Long.class, name);
+            final long hashtagId;
+            if (ids.isEmpty()) {
+                jdbcTemplate.update("INSERT INTO hashtag (name) VALUES (?)", name);
+                hashtagId = jdbcTemplate.queryForObject("SELECT id FROM hashtag WHERE name = ?", Long.class, name);
+            } else {
+                hashtagId = ids.get(0);
+            }
+            jdbcTemplate.update("INSERT INTO post_hashtag (post_id, hashtag_id) VALUES (?, ?)", postId, hashtagId);
+        }
+    }
+
+    @Benchmark
+    public void multiRowUpsert() {
+        final long postId = postIdSequence.incrementAndGet();
+        final List<String> names = hashtagNames(postId);
+        hashtagJdbcRepository.upsertAll(names);
+        hashtagJdbcRepository.insertPostHashtags(postId, hashtagJdbcRepository.findIdsByNames(names).values());
+    }
+
+    /**
+     * 인기 해시태그 20개는 매번 재사용하고, 나머지 10개는 게시글마다 새로 만든다.
+     */
+    private List<String> hashtagNames(final long postId) {
+        final List<String> names = new ArrayList<>(HASHTAG_COUNT);
+        for (int i = 0; i < POPULAR_HASHTAG_COUNT; i++) {
+            names.add("popular-" + i);
+        }
+        for (int i = POPULAR_HASHTAG_COUNT; i < HASHTAG_COUNT; i++) {
+            names.add("post-" + postId + "-" + i);
+        }
+        return names;
+    }
+}
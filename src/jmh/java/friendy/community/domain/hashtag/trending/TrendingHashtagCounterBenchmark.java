@@ -0,0 +1,48 @@
+package friendy.community.domain.hashtag.trending;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 저장 경로에 더해지는 인기 해시태그 집계 비용 측정 (1 op = 해시태그 30개 기록).
+ * 여러 스레드가 같은 인기 해시태그를 동시에 기록하는 부하에서 LongAdder 경합을 함께 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(8)
+public class TrendingHashtagCounterBenchmark {
+
+    private static final int HASHTAG_COUNT = 30;
+    private static final int DISTINCT_HASHTAG_COUNT = 5_000;
+
+    private TrendingHashtagCounter trendingHashtagCounter;
+
+    @Setup
+    public void setUp() {
+        trendingHashtagCounter = new TrendingHashtagCounter();
+    }
+
+    @Benchmark
+    public List<String> baseline() {
+        return hashtagNames();
+    }
+
+    @Benchmark
+    public void record() {
+        trendingHashtagCounter.recordAfterCommit(hashtagNames());
+    }
+
+    private List<String> hashtagNames() {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final List<String> names = new ArrayList<>(HASHTAG_COUNT);
+        for (int i = 0; i < HASHTAG_COUNT; i++) {
+            names.add("tag" + random.nextInt(DISTINCT_HASHTAG_COUNT));
+        }
+        return names;
+    }
+}
@@ -0,0 +1,123 @@
+package friendy.community.domain.member.encryption;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 스레드가 동시에 비밀번호를 검증할 때의 비용 비교.
+ * sharedDigest 는 기존 방식(문자열 연결 후 공유 MessageDigest 사용)을 잠금으로 안전하게 만든 기준선이고,
+ * digestPerCall 은 호출마다 MessageDigest 를 새로 만드는 방식, threadLocalDigest 는 스레드마다 하나씩 두는 방식,
+ * clonedDigest 는 SHA2PasswordEncryptor 가 쓰는 원본 복제 방식이다.
+ * virtual* 는 요청마다 가상 스레드를 새로 만드는 서버처럼 검증 한 번마다 가상 스레드 하나를 띄운다.
+ * 이 경우 ThreadLocal 은 재사용되지 않아 매번 getInstance 비용을 낸다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(Threads.MAX)
+public class PasswordEncryptionBenchmark {
+
+    private static final String PLAIN_PASSWORD = "password123!";
+    private static final String SALT = "3q2+7wAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA=";
+    private static final int VIRTUAL_TASKS = 1_000;
+
+    private final ThreadLocal<MessageDigest> threadLocalDigest = ThreadLocal.withInitial(PasswordEncryptionBenchmark::createDigest);
+
+    private SHA2PasswordEncryptor passwordEncryptor;
+    private MessageDigest sharedDigest;
+    private String encryptedPassword;
+
+    @Setup
+    public void setUp() throws NoSuchAlgorithmException {
+        passwordEncryptor = new SHA2PasswordEncryptor();
+        sharedDigest = MessageDigest.getInstance("SHA-256");
+        encryptedPassword = passwordEncryptor.encrypt(PLAIN_PASSWORD, SALT);
+    }
+
+    @Benchmark
+    public boolean sharedDigest() {
+        final byte[] hashed;
+        synchronized (sharedDigest) {
+            hashed = sharedDigest.digest((PLAIN_PASSWORD + SALT).getBytes(StandardCharsets.UTF_8));
+        }
+        return Base64.getEncoder().encodeToString(hashed).equals(encryptedPassword);
+    }
+
+    @Benchmark
+    public boolean digestPerCall() {
+        return matchesWith(createDigest());
+    }
+
+    @Benchmark
+    public boolean threadLocalDigest() {
+        return matchesWith(threadLocalDigest.get());
+    }
+
+    @Benchmark
+    public boolean clonedDigest() {
+        return passwordEncryptor.matches(PLAIN_PASSWORD, SALT, encryptedPassword);
+    }
+
+    @Benchmark
+    @Threads(1)
+    @OperationsPerInvocation(VIRTUAL_TASKS)
+    public int virtualDigestPerCall() throws Exception {
+        return runOnVirtualThreads(() -> matchesWith(createDigest()));
+    }
+
+    @Benchmark
+    @Threads(1)
+    @OperationsPerInvocation(VIRTUAL_TASKS)
+    public int virtualThreadLocalDigest() throws Exception {
+        return runOnVirtualThreads(() -> matchesWith(threadLocalDigest.get()));
+    }
+
+    @Benchmark
+    @Threads(1)
+    @OperationsPerInvocation(VIRTUAL_TASKS)
+    public int virtualClonedDigest() throws Exception {
+        return runOnVirtualThreads(() -> passwordEncryptor.matches(PLAIN_PASSWORD, SALT, encryptedPassword));
+    }
+
+    private int runOnVirtualThreads(final Callable<Boolean> task) throws InterruptedException, ExecutionException {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final List<Future<Boolean>> futures = new ArrayList<>(VIRTUAL_TASKS);
+            for (int i = 0; i < VIRTUAL_TASKS; i++) {
+                futures.add(executor.submit(task));
+            }
+            int matched = 0;
+            for (Future<Boolean> future : futures) {
+                if (future.get()) {
+                    matched++;
+                }
+            }
+            return matched;
+        }
+    }
+
+    private boolean matchesWith(final MessageDigest digest) {
+        digest.update(PLAIN_PASSWORD.getBytes(StandardCharsets.UTF_8));
+        digest.update(SALT.getBytes(StandardCharsets.UTF_8));
+        return MessageDigest.isEqual(digest.digest(), Base64.getDecoder().decode(encryptedPassword));
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
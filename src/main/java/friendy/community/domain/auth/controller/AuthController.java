@@ -4,6 +4,8 @@ import friendy.community.domain.auth.dto.request.LoginRequest;
 import friendy.community.domain.auth.dto.response.TokenResponse;
 import friendy.community.domain.auth.jwt.JwtTokenExtractor;
 import friendy.community.domain.auth.service.AuthService;
+import friendy.community.global.ratelimit.RateLimitPolicy;
+import friendy.community.global.ratelimit.RateLimiter;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -20,11 +22,14 @@ public class AuthController implements SpringDocAuthController{
 
     private final AuthService authService;
     private final JwtTokenExtractor jwtTokenExtractor;
+    private final RateLimiter rateLimiter;
 
     @PostMapping("/login")
     public ResponseEntity<Void> login(
+            HttpServletRequest httpServletRequest,
             @Valid @RequestBody LoginRequest loginRequest
     ) {
+        rateLimiter.check(RateLimitPolicy.LOGIN, loginRequest.email(), httpServletRequest.getRemoteAddr());
         final TokenResponse response = authService.login(loginRequest);
 
         return ResponseEntity.ok()
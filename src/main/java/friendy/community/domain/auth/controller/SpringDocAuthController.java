@@ -34,7 +34,10 @@ public interface SpringDocAuthController {
             @ErrorCase(description = "이메일 불일치", exampleMessage = "해당 이메일의 회원이 존재하지 않습니다."),
             @ErrorCase(description = "비밀번호 불일치", exampleMessage = "로그인에 실패하였습니다. 비밀번호를 확인해주세요."),
     })
-    ResponseEntity<Void> login(LoginRequest request);
+    @ApiErrorResponse(status = HttpStatus.TOO_MANY_REQUESTS, instance = "/auth/login", errorCases = {
+            @ErrorCase(description = "요청 빈도 초과", exampleMessage = "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    })
+    ResponseEntity<Void> login(HttpServletRequest httpServletRequest, LoginRequest request);
 
     @Operation(
             summary = "로그아웃",
@@ -3,6 +3,7 @@ package friendy.community.domain.auth.jwt;
 import friendy.community.global.exception.ErrorCode;
 import friendy.community.global.exception.FriendyException;
 import io.jsonwebtoken.*;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
@@ -12,6 +13,7 @@ import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 @Component
@@ -19,6 +21,7 @@ import java.util.concurrent.TimeUnit;
 public class JwtTokenProvider {
 
     private final String EMAIL_KEY = "email";
+    private final String MEMBER_ID_KEY = "memberId";
 
     @Value("${jwt.access.secret}")
     private String jwtAccessTokenSecret;
@@ -31,15 +34,27 @@ public class JwtTokenProvider {
     private long jwtRefreshTokenExpirationInMs;
 
     private final StringRedisTemplate redisTemplate;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    private SecretKey accessTokenKey;
+    private SecretKey refreshTokenKey;
+    private JwtParser accessTokenParser;
+    private JwtParser refreshTokenParser;
+
+    @PostConstruct
+    void initialize() {
+        accessTokenKey = new SecretKeySpec(jwtAccessTokenSecret.getBytes(StandardCharsets.UTF_8), SignatureAlgorithm.HS256.getJcaName());
+        refreshTokenKey = new SecretKeySpec(jwtRefreshTokenSecret.getBytes(StandardCharsets.UTF_8), SignatureAlgorithm.HS256.getJcaName());
+        accessTokenParser = Jwts.parserBuilder().setSigningKey(accessTokenKey).build();
+        refreshTokenParser = Jwts.parserBuilder().setSigningKey(refreshTokenKey).build();
+    }
 
-    public String generateAccessToken(final String email) {
-        final SecretKey secretKey = new SecretKeySpec(jwtAccessTokenSecret.getBytes(StandardCharsets.UTF_8), SignatureAlgorithm.HS256.getJcaName());
-        return buildJwtToken(email, jwtAccessTokenExpirationInMs, secretKey);
+    public String generateAccessToken(final Long memberId, final String email) {
+        return buildJwtToken(email, jwtAccessTokenExpirationInMs, accessTokenKey, Map.of(MEMBER_ID_KEY, memberId));
     }
 
     public String generateRefreshToken(final String email) {
-        final SecretKey secretKey = new SecretKeySpec(jwtRefreshTokenSecret.getBytes(StandardCharsets.UTF_8), SignatureAlgorithm.HS256.getJcaName());
-        final String generatedToken = buildJwtToken(email, jwtRefreshTokenExpirationInMs, secretKey);
+        final String generatedToken = buildJwtToken(email, jwtRefreshTokenExpirationInMs, refreshTokenKey);
 
         saveRefreshToken(email, generatedToken);
 
@@ -47,21 +62,12 @@ public class JwtTokenProvider {
     }
 
     public String extractEmailFromAccessToken(final String token) {
-        validateAccessToken(token);
-        final Jws<Claims> claimsJws = getAccessTokenParser().parseClaimsJws(token);
-        final String extractedEmail = claimsJws.getBody().get(EMAIL_KEY, String.class);
-        if (extractedEmail == null) {
-            final String logMessage = "인증 실패(JWT 액세스 토큰 Payload 이메일 누락) - 토큰 : " + token;
-            throw new FriendyException(ErrorCode.UNAUTHORIZED_USER, logMessage);
-        }
-
-        return extractedEmail;
+        return verifyAccessToken(token).email();
     }
 
     public String extractEmailFromRefreshToken(final String token) {
-        validateRefreshToken(token);
-        final Jws<Claims> claimsJws = getRefreshTokenParser().parseClaimsJws(token);
-        final String extractedEmail = claimsJws.getBody().get(EMAIL_KEY, String.class);
+        final Claims claims = parseRefreshToken(token);
+        final String extractedEmail = claims.get(EMAIL_KEY, String.class);
         if (extractedEmail == null) {
             final String logMessage = "인증 실패(JWT 리프레시 토큰 Payload 이메일 누락) - 토큰 : " + token;
             throw new FriendyException(ErrorCode.UNAUTHORIZED_USER, logMessage);
@@ -71,8 +77,36 @@ public class JwtTokenProvider {
     }
 
     public void validateAccessToken(final String token) {
+        verifyAccessToken(token);
+    }
+
+    public void deleteRefreshToken(final String email) {
+        validateUserAuthorization(email);
+        redisTemplate.delete(email);
+    }
+
+    public VerifiedAccessToken verifyAccessToken(final String token) {
+        final VerifiedAccessToken cachedToken = verifiedTokenCache.get(token);
+        if (cachedToken != null) {
+            return cachedToken;
+        }
+
+        final Claims claims = parseAccessToken(token);
+        final String extractedEmail = claims.get(EMAIL_KEY, String.class);
+        if (extractedEmail == null) {
+            final String logMessage = "인증 실패(JWT 액세스 토큰 Payload 이메일 누락) - 토큰 : " + token;
+            throw new FriendyException(ErrorCode.UNAUTHORIZED_USER, logMessage);
+        }
+
+        final Long memberId = claims.get(MEMBER_ID_KEY, Long.class);
+        final VerifiedAccessToken verifiedToken = new VerifiedAccessToken(memberId, extractedEmail, claims.getExpiration().toInstant());
+        verifiedTokenCache.put(token, verifiedToken);
+        return verifiedToken;
+    }
+
+    private Claims parseAccessToken(final String token) {
         try {
-            final Claims claims = getAccessTokenParser().parseClaimsJws(token).getBody();
+            return accessTokenParser.parseClaimsJws(token).getBody();
         } catch (MalformedJwtException | UnsupportedJwtException e) {
             final String logMessage = "인증 실패(잘못된 액세스 토큰) - 토큰 : " + token;
             throw new FriendyException(ErrorCode.UNAUTHORIZED_USER, logMessage);
@@ -82,14 +116,9 @@ public class JwtTokenProvider {
         }
     }
 
-    public void deleteRefreshToken(final String email) {
-        validateUserAuthorization(email);
-        redisTemplate.delete(email);
-    }
-
-    private void validateRefreshToken(final String token) {
+    private Claims parseRefreshToken(final String token) {
         try {
-            final Claims claims = getRefreshTokenParser().parseClaimsJws(token).getBody();
+            return refreshTokenParser.parseClaimsJws(token).getBody();
         } catch (MalformedJwtException | UnsupportedJwtException e) {
             final String logMessage = "인증 실패(잘못된 리프레시 토큰) - 토큰 : " + token;
             throw new FriendyException(ErrorCode.UNAUTHORIZED_USER, logMessage);
@@ -107,10 +136,20 @@ public class JwtTokenProvider {
     }
 
     private String buildJwtToken(final String email, final long tokenExpirationInMs, final SecretKey secretKey) {
+        return buildJwtToken(email, tokenExpirationInMs, secretKey, Map.of());
+    }
+
+    private String buildJwtToken(
+            final String email,
+            final long tokenExpirationInMs,
+            final SecretKey secretKey,
+            final Map<String, Object> additionalClaims
+    ) {
         final Date now = new Date();
         Date expiryDate = new Date(now.getTime() + tokenExpirationInMs);
 
         return Jwts.builder()
+                .addClaims(additionalClaims)
                 .claim(EMAIL_KEY, email)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
@@ -118,18 +157,6 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    private JwtParser getAccessTokenParser() {
-        return Jwts.parserBuilder()
-                .setSigningKey(jwtAccessTokenSecret.getBytes(StandardCharsets.UTF_8))
-                .build();
-    }
-
-    private JwtParser getRefreshTokenParser() {
-        return Jwts.parserBuilder()
-                .setSigningKey(jwtRefreshTokenSecret.getBytes(StandardCharsets.UTF_8))
-                .build();
-    }
-
     private void saveRefreshToken(final String email, final String refreshToken) {
         redisTemplate.opsForValue().set(
                 email,
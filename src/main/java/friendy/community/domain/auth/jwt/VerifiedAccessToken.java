@@ -0,0 +1,10 @@
+package friendy.community.domain.auth.jwt;
+
+import java.time.Instant;
+
+public record VerifiedAccessToken(
+        Long memberId,
+        String email,
+        Instant expiresAt
+) {
+}
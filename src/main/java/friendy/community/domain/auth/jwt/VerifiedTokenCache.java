@@ -0,0 +1,94 @@
+package friendy.community.domain.auth.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import friendy.community.global.exception.ErrorCode;
+import friendy.community.global.exception.FriendyException;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 서명 검증을 통과한 액세스 토큰을 토큰 만료 시각까지 캐싱한다.
+ * 원본 토큰 대신 해시를 키로 사용해 메모리에 토큰 문자열이 남지 않도록 한다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final long MAXIMUM_SIZE = 10_000;
+    private static final MessageDigest DIGEST_PROTOTYPE = createDigest();
+
+    private final Cache<String, VerifiedAccessToken> cache;
+
+    public VerifiedTokenCache() {
+        this(MAXIMUM_SIZE, Ticker.systemTicker());
+    }
+
+    VerifiedTokenCache(final long maximumSize, final Ticker ticker) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilTokenExpiry())
+                .ticker(ticker)
+                .build();
+    }
+
+    public VerifiedAccessToken get(final String token) {
+        return cache.getIfPresent(hash(token));
+    }
+
+    public void put(final String token, final VerifiedAccessToken verifiedAccessToken) {
+        if (verifiedAccessToken.expiresAt().isAfter(Instant.now())) {
+            cache.put(hash(token), verifiedAccessToken);
+        }
+    }
+
+    private String hash(final String token) {
+        final byte[] hashed = newDigest().digest(token.getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().encodeToString(hashed);
+    }
+
+    /**
+     * 복제는 getInstance 의 프로바이더 조회를 건너뛰고, 스레드 수와 무관하게 추가 메모리를 남기지 않는다.
+     */
+    private static MessageDigest newDigest() {
+        try {
+            return (MessageDigest) DIGEST_PROTOTYPE.clone();
+        } catch (CloneNotSupportedException e) {
+            return createDigest();
+        }
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new FriendyException(ErrorCode.INTERNAL_SERVER_ERROR, "암호화 알고리즘이 잘못 명시되었습니다.");
+        }
+    }
+
+    private static class UntilTokenExpiry implements Expiry<String, VerifiedAccessToken> {
+
+        @Override
+        public long expireAfterCreate(final String key, final VerifiedAccessToken value, final long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(final String key, final VerifiedAccessToken value, final long currentTime, final long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(final String key, final VerifiedAccessToken value, final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+}
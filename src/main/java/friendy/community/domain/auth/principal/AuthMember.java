@@ -0,0 +1,7 @@
+package friendy.community.domain.auth.principal;
+
+public record AuthMember(
+        Long memberId,
+        String email
+) {
+}
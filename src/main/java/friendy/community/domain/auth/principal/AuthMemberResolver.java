@@ -0,0 +1,45 @@
+package friendy.community.domain.auth.principal;
+
+import friendy.community.domain.auth.jwt.JwtTokenExtractor;
+import friendy.community.domain.auth.jwt.JwtTokenProvider;
+import friendy.community.domain.auth.jwt.VerifiedAccessToken;
+import friendy.community.domain.auth.service.AuthService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청당 한 번만 액세스 토큰을 검증하고, 결과를 요청 속성에 보관해 재사용한다.
+ * memberId 클레임이 없는 이전 형식의 토큰만 회원 캐시에서 이메일로 회원을 조회한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthMemberResolver {
+
+    private static final String AUTH_MEMBER_ATTRIBUTE = AuthMember.class.getName();
+
+    private final JwtTokenExtractor jwtTokenExtractor;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final AuthService authService;
+
+    public AuthMember resolve(final HttpServletRequest httpServletRequest) {
+        if (httpServletRequest.getAttribute(AUTH_MEMBER_ATTRIBUTE) instanceof AuthMember authMember) {
+            return authMember;
+        }
+
+        final String accessToken = jwtTokenExtractor.extractAccessToken(httpServletRequest);
+        final VerifiedAccessToken verifiedToken = jwtTokenProvider.verifyAccessToken(accessToken);
+        final AuthMember authMember = new AuthMember(resolveMemberId(verifiedToken), verifiedToken.email());
+
+        httpServletRequest.setAttribute(AUTH_MEMBER_ATTRIBUTE, authMember);
+        return authMember;
+    }
+
+    private Long resolveMemberId(final VerifiedAccessToken verifiedToken) {
+        if (verifiedToken.memberId() != null) {
+            return verifiedToken.memberId();
+        }
+        return authService.getCachedMemberByEmail(verifiedToken.email()).id();
+    }
+
+}
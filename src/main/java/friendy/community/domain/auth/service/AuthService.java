@@ -3,6 +3,8 @@ package friendy.community.domain.auth.service;
 import friendy.community.domain.auth.dto.request.LoginRequest;
 import friendy.community.domain.auth.dto.response.TokenResponse;
 import friendy.community.domain.auth.jwt.JwtTokenProvider;
+import friendy.community.domain.member.cache.CachedMember;
+import friendy.community.domain.member.cache.MemberCache;
 import friendy.community.domain.member.encryption.PasswordEncryptor;
 import friendy.community.domain.member.model.Member;
 import friendy.community.domain.member.repository.MemberRepository;
@@ -20,11 +22,12 @@ public class AuthService {
     private final MemberRepository memberRepository;
     private final PasswordEncryptor passwordEncryptor;
     private final JwtTokenProvider jwtTokenProvider;
+    private final MemberCache memberCache;
 
     public TokenResponse login(final LoginRequest request) {
         final Member member = getVerifiedMember(request.email(), request.password());
 
-        final String accessToken = jwtTokenProvider.generateAccessToken(request.email());
+        final String accessToken = jwtTokenProvider.generateAccessToken(member.getId(), member.getEmail());
         final String refreshToken = jwtTokenProvider.generateRefreshToken(request.email());
 
         return TokenResponse.of(accessToken, refreshToken);
@@ -38,7 +41,7 @@ public class AuthService {
     public TokenResponse reissueToken(final String refreshToken) {
         final String extractedEmail = jwtTokenProvider.extractEmailFromRefreshToken(refreshToken);
         final Member member = getMemberByEmail(extractedEmail);
-        final String newAccessToken = jwtTokenProvider.generateAccessToken(member.getEmail());
+        final String newAccessToken = jwtTokenProvider.generateAccessToken(member.getId(), member.getEmail());
         final String newRefreshToken = jwtTokenProvider.generateRefreshToken(member.getEmail());
 
         return TokenResponse.of(newAccessToken, newRefreshToken);
@@ -51,6 +54,7 @@ public class AuthService {
         final Member member = getMemberByEmail(email);
 
         memberRepository.delete(member);
+        memberCache.evict(member.getId(), member.getEmail());
     }
 
     public Member getMemberByEmail(String email) {
@@ -58,6 +62,11 @@ public class AuthService {
                 .orElseThrow(() -> new FriendyException(ErrorCode.UNAUTHORIZED_EMAIL, "해당 이메일의 회원이 존재하지 않습니다."));
     }
 
+    public CachedMember getCachedMemberByEmail(String email) {
+        return memberCache.findByEmail(email)
+                .orElseThrow(() -> new FriendyException(ErrorCode.UNAUTHORIZED_EMAIL, "해당 이메일의 회원이 존재하지 않습니다."));
+    }
+
     private Member getVerifiedMember(String email, String password) {
         Member member = getMemberByEmail(email);
         validateCorrectPassword(member, password);
@@ -65,9 +74,7 @@ public class AuthService {
     }
 
     private void validateCorrectPassword(Member member, String password) {
-        String salt = member.getSalt();
-        String encryptedPassword = passwordEncryptor.encrypt(password, salt);
-        if (!member.matchPassword(encryptedPassword)) {
+        if (!passwordEncryptor.matches(password, member.getSalt(), member.getPassword())) {
             throw new FriendyException(ErrorCode.UNAUTHORIZED_PASSWORD, "로그인에 실패하였습니다. 비밀번호를 확인해주세요.");
         }
     }
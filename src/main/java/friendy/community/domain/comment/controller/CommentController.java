@@ -0,0 +1,49 @@
+package friendy.community.domain.comment.controller;
+
+import friendy.community.domain.comment.dto.request.CommentCreateRequest;
+import friendy.community.domain.comment.dto.response.FindAllCommentResponse;
+import friendy.community.domain.comment.service.CommentService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/posts/{postId}/comments")
+public class CommentController implements SpringDocCommentController {
+
+    private final CommentService commentService;
+
+    @PostMapping
+    public ResponseEntity<Void> createComment(
+            HttpServletRequest httpServletRequest,
+            @PathVariable Long postId,
+            @Valid @RequestBody CommentCreateRequest commentCreateRequest
+    ) {
+        Long commentId = commentService.saveComment(commentCreateRequest, httpServletRequest, postId);
+        return ResponseEntity.created(URI.create("/posts/" + postId + "/comments/" + commentId)).build();
+    }
+
+    @DeleteMapping("/{commentId}")
+    public ResponseEntity<Void> deleteComment(
+            HttpServletRequest httpServletRequest,
+            @PathVariable Long postId,
+            @PathVariable Long commentId
+    ) {
+        commentService.deleteComment(httpServletRequest, postId, commentId);
+        return ResponseEntity.ok().build();
+    }
+
+    @GetMapping
+    public ResponseEntity<FindAllCommentResponse> getComments(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor
+    ) {
+        return ResponseEntity.ok(commentService.getComments(postId, cursor));
+    }
+
+}
@@ -0,0 +1,70 @@
+package friendy.community.domain.comment.controller;
+
+import friendy.community.domain.comment.dto.request.CommentCreateRequest;
+import friendy.community.domain.comment.dto.response.FindAllCommentResponse;
+import friendy.community.global.swagger.error.ApiErrorResponse;
+import friendy.community.global.swagger.error.ErrorCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+@Tag(name = "댓글 API", description = "댓글 API")
+public interface SpringDocCommentController {
+
+    @Operation(summary = "댓글 생성", description = "게시글에 새 댓글을 작성합니다.")
+    @ApiResponse(responseCode = "201", description = "댓글 생성 성공")
+    @ApiErrorResponse(status = HttpStatus.BAD_REQUEST, instance = "/posts/{postId}/comments", errorCases = {
+            @ErrorCase(description = "댓글 내용 없음", exampleMessage = "댓글 내용이 입력되지 않았습니다."),
+            @ErrorCase(description = "댓글 길이 초과", exampleMessage = "댓글은 1000자 이내로 작성해주세요.")
+    })
+    @ApiErrorResponse(status = HttpStatus.NOT_FOUND, instance = "/posts/{postId}/comments", errorCases = {
+            @ErrorCase(description = "존재하지 않는 게시글 ID", exampleMessage = "존재하지 않는 게시글입니다.")
+    })
+    @ApiErrorResponse(status = HttpStatus.UNAUTHORIZED, instance = "/posts/{postId}/comments", errorCases = {
+            @ErrorCase(description = "액세스 토큰 추출 실패", exampleMessage = "인증 실패(액세스 토큰 추출 실패) - 토큰 : {token}"),
+            @ErrorCase(description = "JWT 액세스 토큰 Payload 이메일 누락", exampleMessage = "인증 실패(JWT 액세스 토큰 Payload 이메일 누락) - 토큰 : {token}")
+    })
+    ResponseEntity<Void> createComment(
+            HttpServletRequest httpServletRequest,
+            @PathVariable Long postId,
+            @RequestBody CommentCreateRequest commentCreateRequest
+    );
+
+    @Operation(summary = "댓글 삭제", description = "본인이 작성한 댓글을 삭제합니다.")
+    @ApiResponse(responseCode = "200", description = "댓글 삭제 성공")
+    @ApiErrorResponse(status = HttpStatus.NOT_FOUND, instance = "/posts/{postId}/comments/{commentId}", errorCases = {
+            @ErrorCase(description = "존재하지 않는 댓글 ID", exampleMessage = "존재하지 않는 댓글입니다.")
+    })
+    @ApiErrorResponse(status = HttpStatus.FORBIDDEN, instance = "/posts/{postId}/comments/{commentId}", errorCases = {
+            @ErrorCase(description = "작성자가 아닌 사용자가 삭제 시도", exampleMessage = "댓글은 작성자 본인만 관리할 수 있습니다.")
+    })
+    @ApiErrorResponse(status = HttpStatus.UNAUTHORIZED, instance = "/posts/{postId}/comments/{commentId}", errorCases = {
+            @ErrorCase(description = "액세스 토큰 추출 실패", exampleMessage = "인증 실패(액세스 토큰 추출 실패) - 토큰 : {token}"),
+            @ErrorCase(description = "JWT 액세스 토큰 Payload 이메일 누락", exampleMessage = "인증 실패(JWT 액세스 토큰 Payload 이메일 누락) - 토큰 : {token}")
+    })
+    ResponseEntity<Void> deleteComment(
+            HttpServletRequest httpServletRequest,
+            @PathVariable Long postId,
+            @PathVariable Long commentId
+    );
+
+    @Operation(summary = "댓글 목록 조회", description = "게시글의 댓글을 작성순으로 20개씩 조회합니다. 응답의 nextCursor를 cursor로 전달하면 다음 목록을 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "댓글 목록 조회 성공")
+    @ApiErrorResponse(status = HttpStatus.BAD_REQUEST, instance = "/posts/{postId}/comments", errorCases = {
+            @ErrorCase(description = "잘못된 커서", exampleMessage = "잘못된 커서입니다.")
+    })
+    @ApiErrorResponse(status = HttpStatus.NOT_FOUND, instance = "/posts/{postId}/comments", errorCases = {
+            @ErrorCase(description = "존재하지 않는 게시글 ID", exampleMessage = "존재하지 않는 게시글입니다.")
+    })
+    ResponseEntity<FindAllCommentResponse> getComments(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor
+    );
+
+}
@@ -0,0 +1,15 @@
+package friendy.community.domain.comment.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+@Schema(description = "댓글 생성")
+public record CommentCreateRequest(
+
+        @Schema(description = "댓글 내용", example = "프렌디댓글내용")
+        @NotBlank(message = "댓글 내용이 입력되지 않았습니다.")
+        @Size(max = 1000, message = "댓글은 1000자 이내로 작성해주세요.")
+        String content
+) {
+}
@@ -0,0 +1,14 @@
+package friendy.community.domain.comment.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 목록 조회용 프로젝션. 작성자는 조인하지 않고 ID 만 읽어 한 번에 따로 조회한다.
+ */
+public record CommentSummary(
+        Long id,
+        String content,
+        LocalDateTime createdDate,
+        Long authorId
+) {
+}
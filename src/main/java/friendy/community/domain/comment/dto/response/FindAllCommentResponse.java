@@ -0,0 +1,10 @@
+package friendy.community.domain.comment.dto.response;
+
+import java.util.List;
+
+public record FindAllCommentResponse(
+        List<FindCommentResponse> comments,
+        boolean hasNext,
+        String nextCursor
+) {
+}
@@ -0,0 +1,29 @@
+package friendy.community.domain.comment.dto.response;
+
+import friendy.community.domain.post.dto.response.FindMemberResponse;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+public record FindCommentResponse(
+        Long id,
+        String content,
+        String createdAt,
+        FindMemberResponse authorResponse
+) {
+    public static FindCommentResponse from(CommentSummary commentSummary, FindMemberResponse authorResponse) {
+        return new FindCommentResponse(
+                commentSummary.id(),
+                commentSummary.content(),
+                formatDateTime(commentSummary.createdDate()),
+                authorResponse
+        );
+    }
+
+    private static String formatDateTime(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return null;
+        }
+        return dateTime.format(DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss"));
+    }
+}
@@ -0,0 +1,42 @@
+package friendy.community.domain.comment.model;
+
+import friendy.community.domain.comment.dto.request.CommentCreateRequest;
+import friendy.community.domain.common.BaseEntity;
+import friendy.community.domain.member.model.Member;
+import friendy.community.domain.post.model.Post;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(indexes = @Index(name = "idx_comment_post_id_id", columnList = "postId, id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Comment extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "postId", nullable = false)
+    private Post post;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "memberId", nullable = false)
+    private Member member;
+
+    @Column(nullable = false, length = 1000)
+    private String content;
+
+    protected Comment(final CommentCreateRequest request, final Post post, final Member member) {
+        this.post = post;
+        this.member = member;
+        this.content = request.content();
+    }
+
+    public static Comment of(final CommentCreateRequest request, final Post post, final Member member) {
+        return new Comment(request, post, member);
+    }
+}
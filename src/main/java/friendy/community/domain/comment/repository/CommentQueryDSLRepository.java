@@ -0,0 +1,66 @@
+package friendy.community.domain.comment.repository;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import friendy.community.domain.comment.dto.response.CommentSummary;
+import friendy.community.domain.comment.model.QComment;
+import friendy.community.domain.member.model.QMember;
+import friendy.community.domain.post.dto.response.FindMemberResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Repository
+@RequiredArgsConstructor
+public class CommentQueryDSLRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * (post_id, id) 인덱스를 따라 커서 이후의 댓글을 작성순으로 조회한다.
+     * 다음 페이지 존재 여부 확인을 위해 size + 1개까지 조회한다.
+     */
+    public List<CommentSummary> findCommentSummaries(final Long postId, final Long cursorCommentId, final int size) {
+        return queryFactory.select(Projections.constructor(CommentSummary.class,
+                        QComment.comment.id,
+                        QComment.comment.content,
+                        QComment.comment.createdDate,
+                        QComment.comment.member.id))
+                .from(QComment.comment)
+                .where(QComment.comment.post.id.eq(postId), commentIdAfter(cursorCommentId))
+                .orderBy(QComment.comment.id.asc())
+                .limit(size + 1L)
+                .fetch();
+    }
+
+    /**
+     * 한 페이지에 나온 댓글 작성자를 IN 쿼리 한 번으로 조회한다.
+     */
+    public Map<Long, FindMemberResponse> findAuthorsByIds(final Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return Map.of();
+        }
+        return queryFactory.select(Projections.constructor(FindMemberResponse.class,
+                        QMember.member.id,
+                        QMember.member.nickname))
+                .from(QMember.member)
+                .where(QMember.member.id.in(memberIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(FindMemberResponse::id, Function.identity()));
+    }
+
+    private BooleanExpression commentIdAfter(final Long cursorCommentId) {
+        if (cursorCommentId == null) {
+            return null;
+        }
+        return QComment.comment.id.gt(cursorCommentId);
+    }
+
+}
@@ -0,0 +1,123 @@
+package friendy.community.domain.comment.service;
+
+import friendy.community.domain.auth.principal.AuthMember;
+import friendy.community.domain.auth.principal.AuthMemberResolver;
+import friendy.community.domain.comment.dto.request.CommentCreateRequest;
+import friendy.community.domain.comment.dto.response.CommentSummary;
+import friendy.community.domain.comment.dto.response.FindAllCommentResponse;
+import friendy.community.domain.comment.dto.response.FindCommentResponse;
+import friendy.community.domain.comment.model.Comment;
+import friendy.community.domain.comment.repository.CommentQueryDSLRepository;
+import friendy.community.domain.comment.repository.CommentRepository;
+import friendy.community.domain.member.repository.MemberRepository;
+import friendy.community.domain.post.cache.PostCache;
+import friendy.community.domain.post.dto.response.FindMemberResponse;
+import friendy.community.domain.post.repository.PostCounterJdbcRepository;
+import friendy.community.domain.post.repository.PostRepository;
+import friendy.community.global.exception.ErrorCode;
+import friendy.community.global.exception.FriendyException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class CommentService {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
+    private final CommentRepository commentRepository;
+    private final CommentQueryDSLRepository commentQueryDSLRepository;
+    private final PostRepository postRepository;
+    private final MemberRepository memberRepository;
+    private final AuthMemberResolver authMemberResolver;
+    private final PostCounterJdbcRepository postCounterJdbcRepository;
+    private final PostCache postCache;
+
+    public long saveComment(
+            final CommentCreateRequest commentCreateRequest,
+            final HttpServletRequest httpServletRequest,
+            final Long postId
+    ) {
+        final AuthMember authMember = authMemberResolver.resolve(httpServletRequest);
+        validatePostExistence(postId);
+
+        final Comment comment = Comment.of(
+                commentCreateRequest,
+                postRepository.getReferenceById(postId),
+                memberRepository.getReferenceById(authMember.memberId()));
+        commentRepository.save(comment);
+        addCommentCount(postId, 1);
+
+        return comment.getId();
+    }
+
+    public void deleteComment(final HttpServletRequest httpServletRequest, final Long postId, final Long commentId) {
+        final AuthMember authMember = authMemberResolver.resolve(httpServletRequest);
+        final Comment comment = commentRepository.findById(commentId)
+                .filter(foundComment -> foundComment.getPost().getId().equals(postId))
+                .orElseThrow(() -> new FriendyException(ErrorCode.RESOURCE_NOT_FOUND, "존재하지 않는 댓글입니다."));
+        if (!comment.getMember().getId().equals(authMember.memberId())) {
+            throw new FriendyException(ErrorCode.FORBIDDEN_ACCESS, "댓글은 작성자 본인만 관리할 수 있습니다.");
+        }
+
+        commentRepository.delete(comment);
+        addCommentCount(postId, -1);
+    }
+
+    /**
+     * 댓글 한 페이지를 댓글 조회와 작성자 일괄 조회, 두 번의 쿼리로 만든다.
+     * 게시글 존재 여부는 조회된 댓글이 없을 때만 확인한다.
+     */
+    public FindAllCommentResponse getComments(final Long postId, final String cursor) {
+        final Long cursorCommentId = parseCursor(cursor);
+        final List<CommentSummary> commentSummaries =
+                commentQueryDSLRepository.findCommentSummaries(postId, cursorCommentId, DEFAULT_PAGE_SIZE);
+        if (commentSummaries.isEmpty()) {
+            validatePostExistence(postId);
+        }
+
+        final boolean hasNext = commentSummaries.size() > DEFAULT_PAGE_SIZE;
+        final List<CommentSummary> currentComments = hasNext ? commentSummaries.subList(0, DEFAULT_PAGE_SIZE) : commentSummaries;
+        final String nextCursor = hasNext ? String.valueOf(currentComments.get(currentComments.size() - 1).id()) : null;
+        final Map<Long, FindMemberResponse> authors = commentQueryDSLRepository.findAuthorsByIds(
+                currentComments.stream().map(CommentSummary::authorId).distinct().toList());
+        final List<FindCommentResponse> findCommentResponses = currentComments.stream()
+                .map(commentSummary -> FindCommentResponse.from(commentSummary, authors.get(commentSummary.authorId())))
+                .toList();
+
+        return new FindAllCommentResponse(findCommentResponses, hasNext, nextCursor);
+    }
+
+    /**
+     * 댓글 수는 버퍼를 거치지 않고 댓글 저장/삭제와 같은 트랜잭션에서 원자적으로 UPDATE 한다.
+     * 롤백되면 함께 되돌아가고, 프로세스가 죽어도 댓글 행과 어긋나지 않는다.
+     */
+    private void addCommentCount(final Long postId, final long delta) {
+        postCounterJdbcRepository.addCommentCount(postId, delta);
+        postCache.evict(List.of(postId));
+    }
+
+    private Long parseCursor(final String cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new FriendyException(ErrorCode.INVALID_REQUEST, "잘못된 커서입니다.");
+        }
+    }
+
+    private void validatePostExistence(final Long postId) {
+        if (!postRepository.existsById(postId)) {
+            throw new FriendyException(ErrorCode.RESOURCE_NOT_FOUND, "존재하지 않는 게시글입니다.");
+        }
+    }
+
+}
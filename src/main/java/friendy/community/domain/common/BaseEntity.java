@@ -20,4 +20,11 @@ public abstract class BaseEntity {
     @LastModifiedDate
     private LocalDateTime modifiedDate;
 
+    /**
+     * 연관 데이터만 바뀌어 엔티티 컬럼에 변경이 없을 때도 수정 시각이 갱신되도록 한다.
+     */
+    protected void markModified() {
+        this.modifiedDate = LocalDateTime.now();
+    }
+
 }
@@ -3,6 +3,9 @@ package friendy.community.domain.email.controller;
 import friendy.community.domain.email.dto.request.EmailRequest;
 import friendy.community.domain.email.dto.request.VerifyCodeRequest;
 import friendy.community.domain.email.service.EmailService;
+import friendy.community.global.ratelimit.RateLimitPolicy;
+import friendy.community.global.ratelimit.RateLimiter;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -17,15 +20,24 @@ import org.springframework.web.bind.annotation.RestController;
 public class EmailController implements SpringDocEmailController{
 
     private final EmailService emailService;
+    private final RateLimiter rateLimiter;
 
     @PostMapping("/send-code")
-    public ResponseEntity<Void> sendAuthenticatedEmail(@Valid @RequestBody EmailRequest request) {
+    public ResponseEntity<Void> sendAuthenticatedEmail(
+            HttpServletRequest httpServletRequest,
+            @Valid @RequestBody EmailRequest request
+    ) {
+        rateLimiter.check(RateLimitPolicy.EMAIL_SEND, request.email(), httpServletRequest.getRemoteAddr());
         emailService.sendAuthenticatedEmail(request);
         return ResponseEntity.ok().build();
     }
 
     @PostMapping("/verify-code")
-    public ResponseEntity<Void> verifyAuthCode(@Valid @RequestBody VerifyCodeRequest request) {
+    public ResponseEntity<Void> verifyAuthCode(
+            HttpServletRequest httpServletRequest,
+            @Valid @RequestBody VerifyCodeRequest request
+    ) {
+        rateLimiter.check(RateLimitPolicy.EMAIL_VERIFY, request.email(), httpServletRequest.getRemoteAddr());
         emailService.verifyAuthCode(request);
         return ResponseEntity.ok().build();
     }
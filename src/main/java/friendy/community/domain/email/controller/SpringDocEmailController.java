@@ -7,6 +7,7 @@ import friendy.community.global.swagger.error.ErrorCase;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -15,10 +16,13 @@ public interface SpringDocEmailController {
 
     @Operation(summary = "이메일 인증코드 전송")
     @ApiResponse(responseCode = "200", description = "인증코드 전송 성공")
-    @ApiErrorResponse(status = HttpStatus.INTERNAL_SERVER_ERROR, instance = "/send-code", errorCases = {
-            @ErrorCase(description = "인증번호 전송 실패", exampleMessage = "이메일 전송에 실패했습니다."),
+    @ApiErrorResponse(status = HttpStatus.SERVICE_UNAVAILABLE, instance = "/send-code", errorCases = {
+            @ErrorCase(description = "메일 발송 대기열 포화", exampleMessage = "메일 발송 요청이 많습니다. 잠시 후 다시 시도해주세요."),
     })
-    ResponseEntity<Void> sendAuthenticatedEmail(EmailRequest request);
+    @ApiErrorResponse(status = HttpStatus.TOO_MANY_REQUESTS, instance = "/send-code", errorCases = {
+            @ErrorCase(description = "요청 빈도 초과", exampleMessage = "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    })
+    ResponseEntity<Void> sendAuthenticatedEmail(HttpServletRequest httpServletRequest, EmailRequest request);
 
     @Operation(summary = "이메일 인증코드 검증")
     @ApiResponse(responseCode = "200", description = "인증코드 검증 성공")
@@ -26,6 +30,9 @@ public interface SpringDocEmailController {
             @ErrorCase(description = "인증번호 없음", exampleMessage = "인증번호가 존재하지 않습니다."),
             @ErrorCase(description = "인증번호 불일치", exampleMessage = "인증번호가 일치하지 않습니다."),
     })
-    ResponseEntity<Void> verifyAuthCode(VerifyCodeRequest request);
+    @ApiErrorResponse(status = HttpStatus.TOO_MANY_REQUESTS, instance = "/verify-code", errorCases = {
+            @ErrorCase(description = "요청 빈도 초과", exampleMessage = "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    })
+    ResponseEntity<Void> verifyAuthCode(HttpServletRequest httpServletRequest, VerifyCodeRequest request);
 
 }
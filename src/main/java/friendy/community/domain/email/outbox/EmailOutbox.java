@@ -0,0 +1,285 @@
+package friendy.community.domain.email.outbox;
+
+import friendy.community.global.exception.ErrorCode;
+import friendy.community.global.exception.FriendyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessagePreparator;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 메일 발송을 요청 스레드에서 분리하는 메모리 기반 발송 대기열.
+ * 고정된 수의 워커가 대기열에서 메일을 묶음으로 꺼내 SMTP 연결 하나로 보내고, 실패한 메일만 지수 백오프로 재시도한다.
+ * 재시도는 별도 스케줄러에 예약해 워커가 백오프 동안 잠들지 않고 다음 메일을 계속 보낸다.
+ * 대기열이 가득 차면 요청을 503 으로 거절해 메모리 사용량을 제한한다.
+ * 보내기 전에 준비할 일이 있으면 reserve 로 자리를 먼저 확보하고, 준비가 끝난 뒤 submit 하거나 실패하면 cancel 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailOutbox {
+
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(500);
+
+    private final JavaMailSender mailSender;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${friendy.email.outbox.capacity:1000}")
+    private int capacity;
+    @Value("${friendy.email.outbox.workers:2}")
+    private int workers;
+    @Value("${friendy.email.outbox.batch-size:20}")
+    private int batchSize;
+    @Value("${friendy.email.outbox.max-attempts:3}")
+    private int maxAttempts;
+    @Value("${friendy.email.outbox.initial-backoff:500ms}")
+    private Duration initialBackoff;
+    @Value("${friendy.email.outbox.shutdown-timeout:10s}")
+    private Duration shutdownTimeout;
+    @Value("${friendy.email.outbox.virtual-threads:false}")
+    private boolean virtualThreads;
+
+    private BlockingQueue<OutgoingEmail> queue;
+    private Semaphore slots;
+    private ExecutorService workerPool;
+    private ScheduledExecutorService retryScheduler;
+    private volatile boolean running;
+    private Timer sendLatency;
+    private Timer deliveryLatency;
+    private Counter sentMessages;
+    private Counter failedMessages;
+    private Counter rejectedMessages;
+
+    @PostConstruct
+    void start() {
+        queue = new ArrayBlockingQueue<>(capacity);
+        slots = new Semaphore(capacity);
+        Gauge.builder("email.outbox.queue.size", queue, BlockingQueue::size)
+                .description("발송 대기 중인 메일 수")
+                .register(meterRegistry);
+        sendLatency = meterRegistry.timer("email.outbox.send.latency");
+        deliveryLatency = meterRegistry.timer("email.outbox.delivery.latency");
+        sentMessages = meterRegistry.counter("email.outbox.messages", "result", "sent");
+        failedMessages = meterRegistry.counter("email.outbox.messages", "result", "failed");
+        rejectedMessages = meterRegistry.counter("email.outbox.messages", "result", "rejected");
+
+        running = true;
+        retryScheduler = Executors.newSingleThreadScheduledExecutor(threadFactory("email-outbox-retry-"));
+        workerPool = Executors.newFixedThreadPool(workers, threadFactory("email-outbox-"));
+        for (int i = 0; i < workers; i++) {
+            workerPool.execute(this::runWorker);
+        }
+    }
+
+    /**
+     * 워커가 대기열을 비운 뒤 스케줄러를 닫는다. 이미 예약된 재시도는 종료 대기 시간 안에서 마저 실행된다.
+     */
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        workerPool.shutdown();
+        if (!workerPool.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("[EmailOutbox] 종료 시간 초과로 발송하지 못한 메일 - 개수 : {}", queue.size());
+            workerPool.shutdownNow();
+        }
+        retryScheduler.shutdown();
+        if (!retryScheduler.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("[EmailOutbox] 종료 시간 초과로 재시도하지 못한 메일 묶음 - 개수 : {}", retryScheduler.shutdownNow().size());
+        }
+    }
+
+    public void enqueue(final String recipient, final MimeMessagePreparator preparator) {
+        reserve().submit(recipient, preparator);
+    }
+
+    /**
+     * 대기열 자리를 하나 확보한다. 자리는 워커가 메일을 꺼낼 때 돌려받으므로, 확보한 자리에는 항상 넣을 수 있다.
+     */
+    public Reservation reserve() {
+        if (!slots.tryAcquire()) {
+            rejectedMessages.increment();
+            throw new FriendyException(ErrorCode.SERVICE_UNAVAILABLE, "메일 발송 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return new Reservation();
+    }
+
+    private void runWorker() {
+        final List<OutgoingEmail> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                final OutgoingEmail first = queue.poll(POLL_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                slots.release(1 + queue.drainTo(batch, batchSize - 1));
+                deliver(prepare(batch), 1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("[EmailOutbox] 메일 발송 워커 오류", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void deliver(final Map<MimeMessage, OutgoingEmail> pending, final int attempt) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        final Map<MimeMessage, OutgoingEmail> failed = send(pending);
+        if (failed.isEmpty()) {
+            return;
+        }
+        if (attempt >= maxAttempts) {
+            markFailed(failed, "재시도 후에도 메일 발송 실패");
+            return;
+        }
+        scheduleRetry(failed, attempt + 1);
+    }
+
+    private void scheduleRetry(final Map<MimeMessage, OutgoingEmail> failed, final int nextAttempt) {
+        final long backoffMillis = initialBackoff.toMillis() << (nextAttempt - 2);
+        try {
+            retryScheduler.schedule(() -> {
+                try {
+                    deliver(failed, nextAttempt);
+                } catch (RuntimeException e) {
+                    log.error("[EmailOutbox] 메일 재시도 오류", e);
+                }
+            }, backoffMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            markFailed(failed, "종료 중이라 메일 재시도 불가");
+        }
+    }
+
+    private void markFailed(final Map<MimeMessage, OutgoingEmail> failed, final String reason) {
+        failed.values().forEach(email -> {
+            failedMessages.increment();
+            log.error("[EmailOutbox] {} - 수신자 : {}", reason, email.recipient());
+        });
+    }
+
+    private Map<MimeMessage, OutgoingEmail> prepare(final List<OutgoingEmail> batch) {
+        final Map<MimeMessage, OutgoingEmail> messages = new IdentityHashMap<>();
+        for (OutgoingEmail email : batch) {
+            try {
+                final MimeMessage message = mailSender.createMimeMessage();
+                email.preparator().prepare(message);
+                messages.put(message, email);
+            } catch (Exception e) {
+                failedMessages.increment();
+                log.error("[EmailOutbox] 메일 생성 실패 - 수신자 : {}", email.recipient(), e);
+            }
+        }
+        return messages;
+    }
+
+    /**
+     * 묶음 전체를 한 번의 SMTP 연결로 보내고, 실패한 메일만 반환한다.
+     */
+    private Map<MimeMessage, OutgoingEmail> send(final Map<MimeMessage, OutgoingEmail> pending) {
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        Map<MimeMessage, OutgoingEmail> failed = Map.of();
+        try {
+            mailSender.send(pending.keySet().toArray(MimeMessage[]::new));
+        } catch (MailSendException e) {
+            failed = collectFailed(pending, e);
+            log.warn("[EmailOutbox] 메일 일부 발송 실패 - 실패 : {}/{}", failed.size(), pending.size());
+        } catch (MailException e) {
+            failed = pending;
+            log.warn("[EmailOutbox] 메일 발송 실패 - 개수 : {}", pending.size(), e);
+        } finally {
+            sample.stop(sendLatency);
+        }
+
+        final Instant now = Instant.now();
+        for (Map.Entry<MimeMessage, OutgoingEmail> entry : pending.entrySet()) {
+            if (!failed.containsKey(entry.getKey())) {
+                sentMessages.increment();
+                deliveryLatency.record(Duration.between(entry.getValue().enqueuedAt(), now));
+            }
+        }
+        return failed;
+    }
+
+    private Map<MimeMessage, OutgoingEmail> collectFailed(
+            final Map<MimeMessage, OutgoingEmail> pending,
+            final MailSendException exception
+    ) {
+        if (exception.getFailedMessages().isEmpty()) {
+            return pending;
+        }
+        final Map<MimeMessage, OutgoingEmail> failed = new IdentityHashMap<>();
+        exception.getFailedMessages().keySet().forEach(message -> {
+            final OutgoingEmail email = pending.get(message);
+            if (email != null) {
+                failed.put((MimeMessage) message, email);
+            }
+        });
+        return failed;
+    }
+
+    public final class Reservation {
+
+        private final AtomicBoolean open = new AtomicBoolean(true);
+
+        private Reservation() {
+        }
+
+        public void submit(final String recipient, final MimeMessagePreparator preparator) {
+            if (!open.compareAndSet(true, false)) {
+                throw new IllegalStateException("이미 사용했거나 취소한 발송 대기열 자리입니다.");
+            }
+            if (!queue.offer(new OutgoingEmail(recipient, preparator, Instant.now()))) {
+                slots.release();
+                rejectedMessages.increment();
+                throw new FriendyException(ErrorCode.SERVICE_UNAVAILABLE, "메일 발송 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+            }
+        }
+
+        public void cancel() {
+            if (open.compareAndSet(true, false)) {
+                slots.release();
+            }
+        }
+    }
+
+    private ThreadFactory threadFactory(final String namePrefix) {
+        if (virtualThreads) {
+            return Thread.ofVirtual().name(namePrefix, 0).factory();
+        }
+        return Thread.ofPlatform().name(namePrefix, 0).daemon(true).factory();
+    }
+
+}
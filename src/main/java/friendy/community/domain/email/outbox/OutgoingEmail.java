@@ -0,0 +1,15 @@
+package friendy.community.domain.email.outbox;
+
+import org.springframework.mail.javamail.MimeMessagePreparator;
+
+import java.time.Instant;
+
+/**
+ * 발송 대기 중인 메일. 본문은 요청 스레드가 아닌 발송 워커에서 preparator 로 만든다.
+ */
+public record OutgoingEmail(
+        String recipient,
+        MimeMessagePreparator preparator,
+        Instant enqueuedAt
+) {
+}
@@ -2,16 +2,15 @@ package friendy.community.domain.email.service;
 
 import friendy.community.domain.email.dto.request.EmailRequest;
 import friendy.community.domain.email.dto.request.VerifyCodeRequest;
+import friendy.community.domain.email.outbox.EmailOutbox;
+import friendy.community.domain.email.template.VerificationEmailTemplate;
 import friendy.community.global.exception.ErrorCode;
 import friendy.community.global.exception.FriendyException;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
-import org.thymeleaf.context.Context;
-import org.thymeleaf.spring6.SpringTemplateEngine;
 import org.springframework.stereotype.Service;
 
 import java.util.Random;
@@ -22,18 +21,25 @@ import java.util.concurrent.TimeUnit;
 public class EmailService {
 
     private final StringRedisTemplate redisTemplate;
-    private final JavaMailSender mailSender;
-    private final SpringTemplateEngine templateEngine;
+    private final EmailOutbox emailOutbox;
+    private final VerificationEmailTemplate verificationEmailTemplate;
     private static final long CODE_EXPIRE_MILLIS = 300000;  // 5분
 
+    /**
+     * 발송 대기열에 자리를 먼저 확보하고, 인증번호를 저장한 뒤에 메일을 넣고 바로 반환한다.
+     * 대기열이 가득 차 거절되면 보내지 않을 인증번호가 기존 인증번호를 덮어쓰지 않고,
+     * 저장에 실패하면 자리를 돌려줘 검증할 수 없는 인증번호가 발송되지 않는다.
+     */
     public void sendAuthenticatedEmail(final EmailRequest request) {
+        final String authCode = generateAuthCode();
+        final EmailOutbox.Reservation reservation = emailOutbox.reserve();
         try {
-            final String authCode = generateAndSaveAuthCode(request.email());
-            final MimeMessage message = createEmailMessage(request.email(), authCode);
-            mailSender.send(message);
-        } catch (MessagingException e) {
-            throw new FriendyException(ErrorCode.INTERNAL_SERVER_ERROR, "이메일 전송에 실패했습니다.");
+            saveAuthCode(request.email(), authCode);
+        } catch (RuntimeException e) {
+            reservation.cancel();
+            throw e;
         }
+        reservation.submit(request.email(), message -> prepareEmailMessage(message, request.email(), authCode));
     }
 
     public void verifyAuthCode(final VerifyCodeRequest request) {
@@ -48,19 +54,12 @@ public class EmailService {
         }
     }
 
-    private String generateAndSaveAuthCode(final String email) {
-        final String authCode = generateAuthCode();
-        saveAuthCode(email, authCode);
-        return authCode;
-    }
-
-    private MimeMessage createEmailMessage(final String toEmail, final String authCode) throws MessagingException {
-        final MimeMessage message = mailSender.createMimeMessage();
-        final MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+    private void prepareEmailMessage(final MimeMessage message, final String toEmail, final String authCode)
+            throws MessagingException {
+        final MimeMessageHelper helper = new MimeMessageHelper(message, "UTF-8");
         helper.setTo(toEmail);
         helper.setSubject("Friendy Community 이메일 인증 코드");
-        helper.setText(getEmailContent(authCode), true);
-        return message;
+        helper.setText(verificationEmailTemplate.render(authCode), true);
     }
 
     private String generateAuthCode() {
@@ -73,10 +72,4 @@ public class EmailService {
         redisTemplate.opsForValue().set(email, authCode, CODE_EXPIRE_MILLIS, TimeUnit.MILLISECONDS);
     }
 
-    private String getEmailContent(final String authCode) {
-        final Context context = new Context();
-        context.setVariable("authCode", authCode);
-        return templateEngine.process("email", context);
-    }
-
 }
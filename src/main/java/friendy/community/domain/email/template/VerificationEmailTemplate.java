@@ -0,0 +1,51 @@
+package friendy.community.domain.email.template;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+/**
+ * 인증 메일 본문을 미리 렌더링해 둔 템플릿.
+ * 기동 시 email 템플릿을 자리표시자로 한 번만 렌더링해 앞/뒤 고정 구간으로 나누고,
+ * 발송 시에는 인증번호만 이어 붙여 템플릿 파싱 없이 본문을 만든다.
+ */
+@Component
+@RequiredArgsConstructor
+public class VerificationEmailTemplate {
+
+    private static final String TEMPLATE_NAME = "email";
+    private static final String AUTH_CODE_PLACEHOLDER = "__FRIENDY_AUTH_CODE__";
+
+    private final ITemplateEngine templateEngine;
+
+    private String prefix;
+    private String suffix;
+
+    @PostConstruct
+    void compile() {
+        final Context context = new Context();
+        context.setVariable("authCode", AUTH_CODE_PLACEHOLDER);
+        final String rendered = templateEngine.process(TEMPLATE_NAME, context);
+
+        final int placeholderIndex = rendered.indexOf(AUTH_CODE_PLACEHOLDER);
+        if (placeholderIndex < 0 || rendered.indexOf(AUTH_CODE_PLACEHOLDER, placeholderIndex + 1) >= 0) {
+            throw new IllegalStateException("인증 메일 템플릿에는 인증번호 자리가 정확히 한 곳 있어야 합니다.");
+        }
+        prefix = rendered.substring(0, placeholderIndex);
+        suffix = rendered.substring(placeholderIndex + AUTH_CODE_PLACEHOLDER.length());
+    }
+
+    /**
+     * 인증번호는 서버가 생성한 숫자이므로 HTML 이스케이프 없이 그대로 넣는다.
+     */
+    public String render(final String authCode) {
+        return new StringBuilder(prefix.length() + authCode.length() + suffix.length())
+                .append(prefix)
+                .append(authCode)
+                .append(suffix)
+                .toString();
+    }
+
+}
@@ -0,0 +1,44 @@
+package friendy.community.domain.hashtag.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 해시태그 이름 → ID 인터닝 캐시. 해시태그는 이름이 바뀌거나 삭제되지 않으므로 만료 없이 크기만 제한한다.
+ * 롤백된 트랜잭션에서 만든 ID 가 남지 않도록 커밋 이후에만 적재한다.
+ */
+@Component
+public class HashtagIdCache {
+
+    private static final long MAXIMUM_SIZE = 50_000;
+
+    private final Cache<String, Long> idsByName = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .build();
+
+    public Map<String, Long> getAllPresent(final Collection<String> names) {
+        return idsByName.getAllPresent(names);
+    }
+
+    public void putAfterCommit(final Map<String, Long> ids) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            idsByName.putAll(ids);
+            return;
+        }
+        final Map<String, Long> committedIds = new HashMap<>(ids);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                idsByName.putAll(committedIds);
+            }
+        });
+    }
+
+}
@@ -0,0 +1,34 @@
+package friendy.community.domain.hashtag.controller;
+
+import friendy.community.domain.hashtag.dto.response.FindHashtagsResponse;
+import friendy.community.domain.hashtag.service.HashtagService;
+import friendy.community.domain.hashtag.trending.TrendingPeriod;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/hashtags")
+public class HashtagController implements SpringDocHashtagController {
+
+    private final HashtagService hashtagService;
+
+    @GetMapping("/suggest")
+    public ResponseEntity<FindHashtagsResponse> suggestHashtags(
+            @RequestParam String prefix
+    ) {
+        return ResponseEntity.ok(hashtagService.suggestHashtags(prefix));
+    }
+
+    @GetMapping("/trending")
+    public ResponseEntity<FindHashtagsResponse> getTrendingHashtags(
+            @RequestParam(defaultValue = "HOUR") TrendingPeriod period
+    ) {
+        return ResponseEntity.ok(hashtagService.getTrendingHashtags(period));
+    }
+
+}
@@ -0,0 +1,26 @@
+package friendy.community.domain.hashtag.controller;
+
+import friendy.community.domain.hashtag.dto.response.FindHashtagsResponse;
+import friendy.community.domain.hashtag.trending.TrendingPeriod;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestParam;
+
+@Tag(name = "해시태그 API", description = "해시태그 조회 API")
+public interface SpringDocHashtagController {
+
+    @Operation(summary = "해시태그 자동완성", description = "입력한 접두사로 시작하는 해시태그를 사용 횟수가 많은 순으로 최대 10개 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "해시태그 자동완성 성공")
+    ResponseEntity<FindHashtagsResponse> suggestHashtags(
+            @RequestParam String prefix
+    );
+
+    @Operation(summary = "인기 해시태그 조회", description = "최근 1시간(HOUR) 또는 1일(DAY) 동안 게시글에 가장 많이 달린 해시태그를 최대 10개 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "인기 해시태그 조회 성공")
+    ResponseEntity<FindHashtagsResponse> getTrendingHashtags(
+            @RequestParam(defaultValue = "HOUR") TrendingPeriod period
+    );
+
+}
@@ -0,0 +1,8 @@
+package friendy.community.domain.hashtag.dto.response;
+
+import java.util.List;
+
+public record FindHashtagsResponse(
+        List<HashtagResponse> hashtags
+) {
+}
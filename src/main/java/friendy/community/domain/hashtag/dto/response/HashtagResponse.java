@@ -0,0 +1,13 @@
+package friendy.community.domain.hashtag.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record HashtagResponse(
+
+        @Schema(description = "해시태그", example = "프렌디")
+        String name,
+
+        @Schema(description = "사용 횟수", example = "42")
+        Long count
+) {
+}
@@ -0,0 +1,154 @@
+package friendy.community.domain.hashtag.index;
+
+import friendy.community.domain.hashtag.dto.response.HashtagResponse;
+import friendy.community.domain.hashtag.repository.HashtagRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 해시태그 자동완성용 접두사 인덱스. 트라이의 각 노드가 해당 접두사의 사용 횟수 상위 {@link #MAX_SUGGESTION_SIZE}개를
+ * 미리 들고 있어, 접두사에 걸리는 해시태그 수와 무관하게 정확한 순위를 바로 돌려준다.
+ * 시작 시 DB 에서 적재하고 게시글 저장/수정/삭제 시 증분 반영하며, 감소로 상위 목록 밖의 해시태그가 역전된 오차는 주기적인 재적재로 보정한다.
+ * 재적재 중에 커밋된 증분은 따로 모아 두었다가 새 트라이에 다시 적용한 뒤 교체해, 스냅샷 조회와 교체 사이의 변경을 잃지 않는다.
+ * 스냅샷 직전에 커밋된 증분이 한 번 더 더해질 수 있지만, 그 오차는 다음 재적재에서 보정된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class HashtagPrefixIndex {
+
+    public static final int MAX_SUGGESTION_SIZE = 10;
+    private static final Comparator<HashtagResponse> BY_USAGE_DESC = Comparator.comparing(HashtagResponse::count)
+            .reversed()
+            .thenComparing(HashtagResponse::name);
+
+    private final HashtagRepository hashtagRepository;
+    private final Object reloadLock = new Object();
+    private volatile Node root = new Node();
+    private List<Usage> usagesDuringReload;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${friendy.hashtag.prefix-index.reload-interval-ms:600000}",
+            initialDelayString = "${friendy.hashtag.prefix-index.reload-interval-ms:600000}")
+    public void reload() {
+        synchronized (reloadLock) {
+            synchronized (this) {
+                usagesDuringReload = new ArrayList<>();
+            }
+            try {
+                final Node loaded = new Node();
+                for (HashtagResponse usage : hashtagRepository.findAllUsages()) {
+                    addUsage(loaded, usage.name(), usage.count());
+                }
+                synchronized (this) {
+                    usagesDuringReload.forEach(usage -> addUsage(loaded, usage.name(), usage.delta()));
+                    root = loaded;
+                }
+            } finally {
+                synchronized (this) {
+                    usagesDuringReload = null;
+                }
+            }
+        }
+    }
+
+    public List<HashtagResponse> suggest(final String prefix, final int size) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children.get(prefix.charAt(i));
+        }
+        if (node == null) {
+            return List.of();
+        }
+
+        final List<HashtagResponse> topHashtags = node.topHashtags;
+        return topHashtags.subList(0, Math.min(size, topHashtags.size()));
+    }
+
+    public void addUsagesAfterCommit(final Collection<String> names, final long delta) {
+        if (names.isEmpty()) {
+            return;
+        }
+        final List<String> committedNames = List.copyOf(names);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            addUsages(committedNames, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                addUsages(committedNames, delta);
+            }
+        });
+    }
+
+    private synchronized void addUsages(final List<String> names, final long delta) {
+        for (String name : names) {
+            addUsage(root, name, delta);
+            if (usagesDuringReload != null) {
+                usagesDuringReload.add(new Usage(name, delta));
+            }
+        }
+    }
+
+    /**
+     * 이름의 경로에 있는 모든 노드의 상위 목록을 갱신한다. 쓰기는 이 클래스의 락 안에서만 일어나고,
+     * 상위 목록은 불변 리스트를 통째로 교체하므로 조회는 락 없이 읽는다.
+     */
+    private static void addUsage(final Node root, final String name, final long delta) {
+        final List<Node> path = new ArrayList<>(name.length() + 1);
+        Node node = root;
+        path.add(node);
+        for (int i = 0; i < name.length(); i++) {
+            node = node.children.computeIfAbsent(name.charAt(i), key -> new Node());
+            path.add(node);
+        }
+        node.count = Math.max(0, node.count + delta);
+
+        final HashtagResponse usage = new HashtagResponse(name, node.count);
+        for (Node prefixNode : path) {
+            prefixNode.offer(usage);
+        }
+    }
+
+    private record Usage(String name, long delta) {
+    }
+
+    private static final class Node {
+
+        private final Map<Character, Node> children = new ConcurrentHashMap<>();
+        private long count;
+        private volatile List<HashtagResponse> topHashtags = List.of();
+
+        private void offer(final HashtagResponse usage) {
+            final List<HashtagResponse> current = topHashtags;
+            final boolean listed = current.stream().anyMatch(hashtag -> hashtag.name().equals(usage.name()));
+            if (!listed && current.size() >= MAX_SUGGESTION_SIZE
+                    && BY_USAGE_DESC.compare(usage, current.get(current.size() - 1)) >= 0) {
+                return;
+            }
+
+            final List<HashtagResponse> updated = new ArrayList<>(current.size() + 1);
+            for (HashtagResponse hashtag : current) {
+                if (!hashtag.name().equals(usage.name())) {
+                    updated.add(hashtag);
+                }
+            }
+            updated.add(usage);
+            updated.sort(BY_USAGE_DESC);
+            topHashtags = List.copyOf(updated.subList(0, Math.min(MAX_SUGGESTION_SIZE, updated.size())));
+        }
+    }
+
+}
@@ -0,0 +1,115 @@
+package friendy.community.domain.hashtag.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * IDENTITY 전략으로는 Hibernate 배치 INSERT 가 동작하지 않으므로,
+ * 해시태그와 게시글-해시태그 매핑을 다중 행 INSERT 한 번으로 저장한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class HashtagJdbcRepository {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 이미 존재하는 이름은 무시하고 새 이름만 추가한다.
+     */
+    public void upsertAll(final Collection<String> names) {
+        for (List<String> chunk : chunk(List.copyOf(names))) {
+            final String sql = "INSERT INTO hashtag (name) VALUES " + placeholders(chunk.size(), "(?)")
+                    + " ON DUPLICATE KEY UPDATE id = id";
+            jdbcTemplate.update(sql, chunk.toArray());
+        }
+    }
+
+    public Map<String, Long> findIdsByNames(final Collection<String> names) {
+        return findIdsByNames(names, "");
+    }
+
+    /**
+     * 잠금 읽기는 트랜잭션 스냅샷이 아니라 최신 커밋 상태를 읽으므로,
+     * 스냅샷 이후 다른 트랜잭션이 추가한 해시태그도 조회된다.
+     */
+    public Map<String, Long> findIdsByNamesForUpdate(final Collection<String> names) {
+        return findIdsByNames(names, " FOR UPDATE");
+    }
+
+    /**
+     * 이름 비교를 DB 콜레이션에 맡겨, 대소문자나 끝 공백만 다른 이름으로 저장된 해시태그도 찾는다.
+     */
+    public Optional<Long> findIdByNameForUpdate(final String name) {
+        final List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM hashtag WHERE name = ? FOR UPDATE", Long.class, name);
+        return ids.stream().findFirst();
+    }
+
+    private Map<String, Long> findIdsByNames(final Collection<String> names, final String lockClause) {
+        final Map<String, Long> idsByName = new HashMap<>();
+        for (List<String> chunk : chunk(List.copyOf(names))) {
+            final String sql = "SELECT id, name FROM hashtag WHERE name IN (" + placeholders(chunk.size(), "?") + ")" + lockClause;
+            jdbcTemplate.query(sql, resultSet -> {
+                idsByName.put(resultSet.getString("name"), resultSet.getLong("id"));
+            }, chunk.toArray());
+        }
+        return idsByName;
+    }
+
+    public Map<String, Long> findIdsByPostId(final Long postId) {
+        final Map<String, Long> idsByName = new HashMap<>();
+        final String sql = "SELECT h.id, h.name FROM post_hashtag ph JOIN hashtag h ON h.id = ph.hashtag_id WHERE ph.post_id = ?";
+        jdbcTemplate.query(sql, resultSet -> {
+            idsByName.put(resultSet.getString("name"), resultSet.getLong("id"));
+        }, postId);
+        return idsByName;
+    }
+
+    /**
+     * 게시글마다 연결된 해시태그 이름을 하나씩 반환한다. 여러 게시글에 쓰인 이름은 그 수만큼 반복된다.
+     */
+    public List<String> findNamesByPostIds(final Collection<Long> postIds) {
+        final List<String> names = new ArrayList<>();
+        for (List<Long> chunk : chunk(List.copyOf(postIds))) {
+            final String sql = "SELECT h.name FROM post_hashtag ph JOIN hashtag h ON h.id = ph.hashtag_id WHERE ph.post_id IN ("
+                    + placeholders(chunk.size(), "?") + ")";
+            names.addAll(jdbcTemplate.queryForList(sql, String.class, chunk.toArray()));
+        }
+        return names;
+    }
+
+    public void insertPostHashtags(final Long postId, final Collection<Long> hashtagIds) {
+        for (List<Long> chunk : chunk(List.copyOf(hashtagIds))) {
+            final String sql = "INSERT INTO post_hashtag (post_id, hashtag_id) VALUES " + placeholders(chunk.size(), "(?, ?)");
+            final Object[] parameters = new Object[chunk.size() * 2];
+            for (int i = 0; i < chunk.size(); i++) {
+                parameters[i * 2] = postId;
+                parameters[i * 2 + 1] = chunk.get(i);
+            }
+            jdbcTemplate.update(sql, parameters);
+        }
+    }
+
+    private String placeholders(final int count, final String placeholder) {
+        return String.join(", ", Collections.nCopies(count, placeholder));
+    }
+
+    private <T> List<List<T>> chunk(final List<T> values) {
+        final List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < values.size(); from += CHUNK_SIZE) {
+            chunks.add(values.subList(from, Math.min(from + CHUNK_SIZE, values.size())));
+        }
+        return chunks;
+    }
+
+}
@@ -1,7 +1,9 @@
 package friendy.community.domain.hashtag.repository;
 
+import friendy.community.domain.hashtag.dto.response.HashtagResponse;
 import friendy.community.domain.hashtag.model.Hashtag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,4 +11,8 @@ import java.util.List;
 @Repository
 public interface HashtagRepository extends JpaRepository<Hashtag, Long> {
     List<Hashtag> findAllByNameIn(List<String> names);
+
+    @Query("SELECT new friendy.community.domain.hashtag.dto.response.HashtagResponse(h.name, COUNT(ph)) "
+            + "FROM Hashtag h LEFT JOIN PostHashtag ph ON ph.hashtag = h GROUP BY h.id, h.name")
+    List<HashtagResponse> findAllUsages();
 }
@@ -2,10 +2,25 @@ package friendy.community.domain.hashtag.repository;
 
 import friendy.community.domain.post.model.PostHashtag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+
 @Repository
 public interface PostHashtagRepository extends JpaRepository<PostHashtag, Long> {
 
-    void deleteAllByPostId(Long postId);
+    @Modifying
+    @Query("DELETE FROM PostHashtag ph WHERE ph.post.id = :postId")
+    int deleteAllByPostId(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("DELETE FROM PostHashtag ph WHERE ph.post.id IN :postIds")
+    int deleteAllByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    @Modifying
+    @Query("DELETE FROM PostHashtag ph WHERE ph.post.id = :postId AND ph.hashtag.id IN :hashtagIds")
+    int deleteByPostIdAndHashtagIdIn(@Param("postId") Long postId, @Param("hashtagIds") Collection<Long> hashtagIds);
 }
@@ -1,63 +1,155 @@
 package friendy.community.domain.hashtag.service;
 
-import friendy.community.domain.hashtag.model.Hashtag;
-import friendy.community.domain.hashtag.repository.HashtagRepository;
+import friendy.community.domain.hashtag.cache.HashtagIdCache;
+import friendy.community.domain.hashtag.dto.response.FindHashtagsResponse;
+import friendy.community.domain.hashtag.index.HashtagPrefixIndex;
+import friendy.community.domain.hashtag.trending.TrendingHashtagCounter;
+import friendy.community.domain.hashtag.trending.TrendingPeriod;
+import friendy.community.domain.hashtag.repository.HashtagJdbcRepository;
 import friendy.community.domain.hashtag.repository.PostHashtagRepository;
 import friendy.community.domain.post.model.Post;
-import friendy.community.domain.post.model.PostHashtag;
+import friendy.community.global.exception.ErrorCode;
+import friendy.community.global.exception.FriendyException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class HashtagService {
 
-    private final HashtagRepository hashtagRepository;
+    private final HashtagJdbcRepository hashtagJdbcRepository;
     private final PostHashtagRepository postHashtagRepository;
+    private final HashtagIdCache hashtagIdCache;
+    private final HashtagPrefixIndex hashtagPrefixIndex;
+    private final TrendingHashtagCounter trendingHashtagCounter;
 
     public void saveHashtags(Post post, List<String> hashtagNames) {
-        List<Hashtag> existTags = hashtagRepository.findAllByNameIn(hashtagNames);
-        List<String> existNames = getExistHashtagNames(existTags);
+        final Set<String> distinctNames = new LinkedHashSet<>(hashtagNames);
+        if (distinctNames.isEmpty()) {
+            return;
+        }
 
-        List<Hashtag> newHashtags = getOnlyNewHashags(existNames, hashtagNames);
-        List<Hashtag> savedNewHashtags = hashtagRepository.saveAll(newHashtags);
-
-        existTags.addAll(savedNewHashtags);
-        savePostHashtags(post, existTags);
+        final Map<String, Long> hashtagIds = getOrCreateHashtagIds(distinctNames);
+        hashtagJdbcRepository.insertPostHashtags(post.getId(), new LinkedHashSet<>(hashtagIds.values()));
+        hashtagPrefixIndex.addUsagesAfterCommit(distinctNames, 1);
+        trendingHashtagCounter.recordAfterCommit(distinctNames);
     }
 
+    /**
+     * 기존 해시태그와 요청된 해시태그의 차집합만 추가/삭제한다. 변경이 없으면 쓰기 쿼리를 보내지 않는다.
+     */
     public void updateHashtags(Post post, List<String> hashtags) {
-        deleteHashtags(post.getId());
-        saveHashtags(post, hashtags);
+        final Map<String, Long> currentIds = hashtagJdbcRepository.findIdsByPostId(post.getId());
+        final Set<String> requestedNames = new LinkedHashSet<>(hashtags);
+
+        final Map<String, Long> removedIds = new HashMap<>(currentIds);
+        removedIds.keySet().removeAll(requestedNames);
+        final Set<String> addedNames = new LinkedHashSet<>(requestedNames);
+        addedNames.removeAll(currentIds.keySet());
+
+        if (!removedIds.isEmpty()) {
+            postHashtagRepository.deleteByPostIdAndHashtagIdIn(post.getId(), removedIds.values());
+            hashtagPrefixIndex.addUsagesAfterCommit(removedIds.keySet(), -1);
+        }
+        if (!addedNames.isEmpty()) {
+            final Set<Long> addedIds = new LinkedHashSet<>(getOrCreateHashtagIds(addedNames).values());
+            currentIds.forEach((name, id) -> {
+                if (!removedIds.containsKey(name)) {
+                    addedIds.remove(id);
+                }
+            });
+            if (!addedIds.isEmpty()) {
+                hashtagJdbcRepository.insertPostHashtags(post.getId(), addedIds);
+            }
+            hashtagPrefixIndex.addUsagesAfterCommit(addedNames, 1);
+            trendingHashtagCounter.recordAfterCommit(addedNames);
+        }
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public FindHashtagsResponse suggestHashtags(String prefix) {
+        return new FindHashtagsResponse(hashtagPrefixIndex.suggest(prefix, HashtagPrefixIndex.MAX_SUGGESTION_SIZE));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public FindHashtagsResponse getTrendingHashtags(TrendingPeriod period) {
+        return new FindHashtagsResponse(trendingHashtagCounter.getTopHashtags(period));
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Long> findHashtagId(String name) {
+        final List<String> names = List.of(name);
+        final Long cachedId = hashtagIdCache.getAllPresent(names).get(name);
+        if (cachedId != null) {
+            return Optional.of(cachedId);
+        }
+
+        final Map<String, Long> loadedIds = hashtagJdbcRepository.findIdsByNames(names);
+        hashtagIdCache.putAfterCommit(loadedIds);
+        return Optional.ofNullable(loadedIds.get(name));
     }
 
     public void deleteHashtags(Long postId) {
+        final Set<String> names = hashtagJdbcRepository.findIdsByPostId(postId).keySet();
         postHashtagRepository.deleteAllByPostId(postId);
+        hashtagPrefixIndex.addUsagesAfterCommit(names, -1);
     }
 
-    private List<String> getExistHashtagNames(List<Hashtag> existTags) {
-        return existTags.stream()
-                .map(Hashtag::getName)
-                .toList();
+    /**
+     * 여러 게시글의 해시태그 연결을 한 번에 지우고, 지운 연결 수만큼 자동완성 사용 횟수를 줄인다.
+     */
+    public void deleteHashtags(Collection<Long> postIds) {
+        final List<String> names = hashtagJdbcRepository.findNamesByPostIds(postIds);
+        postHashtagRepository.deleteAllByPostIdIn(postIds);
+        hashtagPrefixIndex.addUsagesAfterCommit(names, -1);
     }
 
-    private List<Hashtag> getOnlyNewHashags(List<String> existNames, List<String> hashtagNames) {
-        return hashtagNames.stream()
-                .distinct()
-                .filter(name -> !existNames.contains(name))
-                .map(Hashtag::new)
-                .toList();
-    }
+    /**
+     * 캐시에 없는 이름만 upsert 한다. 동시에 같은 새 해시태그를 쓰더라도 ON DUPLICATE KEY 로 흡수되고,
+     * 이름을 정렬해 INSERT 하므로 여러 트랜잭션이 같은 순서로 유니크 인덱스 락을 잡아 교착 상태를 피한다.
+     * 다른 트랜잭션이 스냅샷 이후에 추가한 이름은 일반 SELECT 로 보이지 않으므로 잠금 읽기로 다시 조회한다.
+     * 콜레이션상 같은 이름(예: "Java" 와 "java")은 한 행으로 합쳐져 저장된 표기로 조회되므로,
+     * 그래도 빠진 이름은 DB 비교로 한 건씩 찾아 요청한 이름에 연결한다.
+     */
+    private Map<String, Long> getOrCreateHashtagIds(Set<String> names) {
+        final Map<String, Long> hashtagIds = new HashMap<>(hashtagIdCache.getAllPresent(names));
+        final Set<String> missingNames = new TreeSet<>(names);
+        missingNames.removeAll(hashtagIds.keySet());
+        if (missingNames.isEmpty()) {
+            return hashtagIds;
+        }
+
+        hashtagJdbcRepository.upsertAll(missingNames);
+        final Map<String, Long> loadedIds = new HashMap<>(hashtagJdbcRepository.findIdsByNames(missingNames));
+        loadedIds.keySet().retainAll(missingNames);
+        if (loadedIds.size() < missingNames.size()) {
+            loadedIds.putAll(hashtagJdbcRepository.findIdsByNamesForUpdate(missingNames));
+            loadedIds.keySet().retainAll(missingNames);
+        }
+        for (String name : missingNames) {
+            if (!loadedIds.containsKey(name)) {
+                hashtagJdbcRepository.findIdByNameForUpdate(name).ifPresent(id -> loadedIds.put(name, id));
+            }
+        }
+        if (loadedIds.size() < missingNames.size()) {
+            throw new FriendyException(ErrorCode.INTERNAL_SERVER_ERROR, "해시태그 저장에 실패했습니다.");
+        }
+        hashtagIdCache.putAfterCommit(loadedIds);
+        hashtagIds.putAll(loadedIds);
 
-    private void savePostHashtags(Post post, List<Hashtag> hashtags) {
-        List<PostHashtag> postHashtags = hashtags.stream()
-                .map(hashtag -> new PostHashtag(post, hashtag))
-                .toList();
-        postHashtagRepository.saveAll(postHashtags);
+        return hashtagIds;
     }
 
 }
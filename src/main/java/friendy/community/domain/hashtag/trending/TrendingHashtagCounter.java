@@ -0,0 +1,133 @@
+package friendy.community.domain.hashtag.trending;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import friendy.community.domain.hashtag.dto.response.HashtagResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 시간 버킷 링으로 구현한 슬라이딩 윈도우 해시태그 카운터.
+ * 최근 1시간은 1분 버킷 60개, 최근 1일은 1시간 버킷 24개에 나눠 세고, 조회 시 유효한 버킷만 합산한다.
+ * 기록은 LongAdder 증가뿐이라 게시글 저장 경로에 거의 비용을 더하지 않으며, 순위 결과는 잠시 캐싱한다.
+ */
+@Component
+public class TrendingHashtagCounter {
+
+    private static final Duration RESULT_TTL = Duration.ofSeconds(10);
+    private static final int RANK_SIZE = 10;
+    private static final Comparator<HashtagResponse> BY_COUNT = Comparator.comparing(HashtagResponse::count)
+            .thenComparing(HashtagResponse::name, Comparator.reverseOrder());
+
+    private final Clock clock;
+    private final Map<TrendingPeriod, AtomicReferenceArray<Bucket>> bucketRings = new EnumMap<>(TrendingPeriod.class);
+    private final Cache<TrendingPeriod, List<HashtagResponse>> topHashtags;
+
+    public TrendingHashtagCounter() {
+        this(Clock.systemUTC(), RESULT_TTL);
+    }
+
+    TrendingHashtagCounter(final Clock clock, final Duration resultTtl) {
+        this.clock = clock;
+        this.topHashtags = Caffeine.newBuilder()
+                .expireAfterWrite(resultTtl)
+                .build();
+        for (TrendingPeriod period : TrendingPeriod.values()) {
+            bucketRings.put(period, new AtomicReferenceArray<>(period.bucketCount()));
+        }
+    }
+
+    public void recordAfterCommit(final Collection<String> names) {
+        if (names.isEmpty()) {
+            return;
+        }
+        final List<String> committedNames = List.copyOf(names);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(committedNames);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(committedNames);
+            }
+        });
+    }
+
+    public List<HashtagResponse> getTopHashtags(final TrendingPeriod period) {
+        return topHashtags.get(period, this::rank);
+    }
+
+    private void record(final List<String> names) {
+        final long now = clock.millis();
+        for (TrendingPeriod period : TrendingPeriod.values()) {
+            final Bucket bucket = currentBucket(period, period.bucketOf(now));
+            names.forEach(name -> bucket.counts.computeIfAbsent(name, key -> new LongAdder()).increment());
+        }
+    }
+
+    private Bucket currentBucket(final TrendingPeriod period, final long bucketId) {
+        final AtomicReferenceArray<Bucket> ring = bucketRings.get(period);
+        final int index = (int) (bucketId % period.bucketCount());
+        while (true) {
+            final Bucket bucket = ring.get(index);
+            if (bucket != null && bucket.id == bucketId) {
+                return bucket;
+            }
+            final Bucket newBucket = new Bucket(bucketId);
+            if (ring.compareAndSet(index, bucket, newBucket)) {
+                return newBucket;
+            }
+        }
+    }
+
+    private List<HashtagResponse> rank(final TrendingPeriod period) {
+        final long currentBucketId = period.bucketOf(clock.millis());
+        final AtomicReferenceArray<Bucket> ring = bucketRings.get(period);
+
+        final Map<String, Long> totals = new HashMap<>();
+        for (int i = 0; i < ring.length(); i++) {
+            final Bucket bucket = ring.get(i);
+            if (bucket == null || currentBucketId - bucket.id >= period.bucketCount()) {
+                continue;
+            }
+            bucket.counts.forEach((name, count) -> totals.merge(name, count.sum(), Long::sum));
+        }
+
+        final PriorityQueue<HashtagResponse> ranked = new PriorityQueue<>(RANK_SIZE + 1, BY_COUNT);
+        totals.forEach((name, count) -> {
+            ranked.offer(new HashtagResponse(name, count));
+            if (ranked.size() > RANK_SIZE) {
+                ranked.poll();
+            }
+        });
+        return ranked.stream()
+                .sorted(BY_COUNT.reversed())
+                .toList();
+    }
+
+    private static final class Bucket {
+
+        private final long id;
+        private final ConcurrentHashMap<String, LongAdder> counts = new ConcurrentHashMap<>();
+
+        private Bucket(final long id) {
+            this.id = id;
+        }
+    }
+
+}
@@ -0,0 +1,25 @@
+package friendy.community.domain.hashtag.trending;
+
+import java.time.Duration;
+
+public enum TrendingPeriod {
+
+    HOUR(Duration.ofMinutes(1), 60),
+    DAY(Duration.ofHours(1), 24);
+
+    private final Duration bucketSize;
+    private final int bucketCount;
+
+    TrendingPeriod(final Duration bucketSize, final int bucketCount) {
+        this.bucketSize = bucketSize;
+        this.bucketCount = bucketCount;
+    }
+
+    public long bucketOf(final long epochMillis) {
+        return epochMillis / bucketSize.toMillis();
+    }
+
+    public int bucketCount() {
+        return bucketCount;
+    }
+}
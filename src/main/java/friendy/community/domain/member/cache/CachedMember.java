@@ -0,0 +1,24 @@
+package friendy.community.domain.member.cache;
+
+import friendy.community.domain.member.model.Member;
+
+import java.time.LocalDate;
+
+/**
+ * 캐시에 보관하는 회원 정보. 비밀번호와 솔트는 캐시하지 않는다.
+ */
+public record CachedMember(
+        Long id,
+        String email,
+        String nickname,
+        LocalDate birthDate
+) {
+    public static CachedMember from(Member member) {
+        return new CachedMember(
+                member.getId(),
+                member.getEmail(),
+                member.getNickname(),
+                member.getBirthDate()
+        );
+    }
+}
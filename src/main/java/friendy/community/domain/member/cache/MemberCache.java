@@ -0,0 +1,206 @@
+package friendy.community.domain.member.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import friendy.community.domain.member.model.Member;
+import friendy.community.domain.member.repository.MemberRepository;
+import friendy.community.global.cache.CacheInvalidationBroadcaster;
+import friendy.community.global.cache.CacheInvalidationListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 회원 조회 2단계 캐시. L1 은 노드별 Caffeine, L2 는 공유 Redis 를 사용한다.
+ * 회원 정보가 바뀌면 evict 로 양쪽을 비우고, pub/sub 으로 다른 노드의 L1 도 비운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberCache implements CacheInvalidationListener {
+
+    private static final String INVALIDATION_CHANNEL = "friendy:cache:member";
+    private static final String EMAIL_KEY_PREFIX = "member:email:";
+    private static final String ID_KEY_PREFIX = "member:id:";
+    private static final String MESSAGE_DELIMITER = ",";
+
+    private final MemberRepository memberRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final CacheInvalidationBroadcaster cacheInvalidationBroadcaster;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${friendy.cache.redis.enabled:true}")
+    private boolean redisEnabled;
+    @Value("${friendy.member.cache.maximum-size:10000}")
+    private long maximumSize;
+    @Value("${friendy.member.cache.local-ttl:5m}")
+    private Duration localTtl;
+    @Value("${friendy.member.cache.redis-ttl:30m}")
+    private Duration redisTtl;
+
+    private Cache<String, CachedMember> membersByEmail;
+    private Cache<Long, CachedMember> membersById;
+    private Counter redisHits;
+    private Counter redisMisses;
+
+    @PostConstruct
+    void initialize() {
+        membersByEmail = buildLocalCache();
+        membersById = buildLocalCache();
+        CaffeineCacheMetrics.monitor(meterRegistry, membersByEmail, "member.email");
+        CaffeineCacheMetrics.monitor(meterRegistry, membersById, "member.id");
+        redisHits = meterRegistry.counter("cache.gets", "cache", "member.redis", "result", "hit");
+        redisMisses = meterRegistry.counter("cache.gets", "cache", "member.redis", "result", "miss");
+    }
+
+    public Optional<CachedMember> findByEmail(final String email) {
+        final CachedMember localMember = membersByEmail.getIfPresent(email);
+        if (localMember != null) {
+            return Optional.of(localMember);
+        }
+        return load(EMAIL_KEY_PREFIX + email, () -> memberRepository.findByEmail(email));
+    }
+
+    public Optional<CachedMember> findById(final Long memberId) {
+        final CachedMember localMember = membersById.getIfPresent(memberId);
+        if (localMember != null) {
+            return Optional.of(localMember);
+        }
+        return load(ID_KEY_PREFIX + memberId, () -> memberRepository.findById(memberId));
+    }
+
+    /**
+     * 즉시 비우고, 진행 중인 트랜잭션이 끝난 뒤 한 번 더 비워 그 사이 다시 적재된 값도 제거한다.
+     */
+    public void evict(final Long memberId, final String email) {
+        evictEverywhere(memberId, email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    evictEverywhere(memberId, email);
+                }
+            });
+        }
+    }
+
+    @Override
+    public String channel() {
+        return INVALIDATION_CHANNEL;
+    }
+
+    @Override
+    public void onInvalidation(final String message) {
+        final String[] parts = message.split(MESSAGE_DELIMITER, 2);
+        if (parts.length != 2) {
+            return;
+        }
+        if (!parts[0].isEmpty()) {
+            membersById.invalidate(Long.valueOf(parts[0]));
+        }
+        membersByEmail.invalidate(parts[1]);
+    }
+
+    private void evictEverywhere(final Long memberId, final String email) {
+        if (memberId != null) {
+            membersById.invalidate(memberId);
+        }
+        membersByEmail.invalidate(email);
+
+        deleteFromRedis(memberId, email);
+        final String message = (memberId == null ? "" : memberId) + MESSAGE_DELIMITER + email;
+        cacheInvalidationBroadcaster.broadcast(INVALIDATION_CHANNEL, message);
+    }
+
+    private Optional<CachedMember> load(final String redisKey, final Supplier<Optional<Member>> loader) {
+        final CachedMember redisMember = readFromRedis(redisKey);
+        if (redisMember != null) {
+            putLocal(redisMember);
+            return Optional.of(redisMember);
+        }
+
+        final Optional<CachedMember> loadedMember = loader.get().map(CachedMember::from);
+        loadedMember.ifPresent(member -> {
+            putLocal(member);
+            writeToRedis(member);
+        });
+        return loadedMember;
+    }
+
+    private void putLocal(final CachedMember member) {
+        membersByEmail.put(member.email(), member);
+        membersById.put(member.id(), member);
+    }
+
+    private CachedMember readFromRedis(final String redisKey) {
+        if (!redisEnabled) {
+            return null;
+        }
+        try {
+            final String value = redisTemplate.opsForValue().get(redisKey);
+            if (value == null) {
+                redisMisses.increment();
+                return null;
+            }
+            redisHits.increment();
+            return objectMapper.readValue(value, CachedMember.class);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("[MemberCache] Redis 조회 실패 - 키 : {}", redisKey);
+            return null;
+        }
+    }
+
+    private void writeToRedis(final CachedMember member) {
+        if (!redisEnabled) {
+            return;
+        }
+        try {
+            final String value = objectMapper.writeValueAsString(member);
+            redisTemplate.opsForValue().set(EMAIL_KEY_PREFIX + member.email(), value, redisTtl);
+            redisTemplate.opsForValue().set(ID_KEY_PREFIX + member.id(), value, redisTtl);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("[MemberCache] Redis 저장 실패 - 회원 ID : {}", member.id());
+        }
+    }
+
+    private void deleteFromRedis(final Long memberId, final String email) {
+        if (!redisEnabled) {
+            return;
+        }
+        try {
+            if (memberId == null) {
+                redisTemplate.delete(EMAIL_KEY_PREFIX + email);
+                return;
+            }
+            redisTemplate.delete(List.of(EMAIL_KEY_PREFIX + email, ID_KEY_PREFIX + memberId));
+        } catch (DataAccessException e) {
+            log.warn("[MemberCache] Redis 삭제 실패 - 이메일 : {}", email);
+        }
+    }
+
+    private <K> Cache<K, CachedMember> buildLocalCache() {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .build();
+    }
+
+}
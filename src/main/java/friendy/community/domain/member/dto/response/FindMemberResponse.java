@@ -1,5 +1,6 @@
 package friendy.community.domain.member.dto.response;
 
+import friendy.community.domain.member.cache.CachedMember;
 import friendy.community.domain.member.model.Member;
 import io.swagger.v3.oas.annotations.media.Schema;
 
@@ -33,4 +34,14 @@ public record FindMemberResponse(
         );
     }
 
+    public static FindMemberResponse from(CachedMember member, boolean isMe) {
+        return new FindMemberResponse(
+                isMe,
+                member.id(),
+                member.email(),
+                member.nickname(),
+                member.birthDate()
+        );
+    }
+
 }
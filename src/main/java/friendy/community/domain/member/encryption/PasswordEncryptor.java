@@ -2,4 +2,9 @@ package friendy.community.domain.member.encryption;
 
 public interface PasswordEncryptor {
     String encrypt(String plainPassword, String salt);
+
+    /**
+     * 평문 비밀번호를 암호화한 값이 저장된 값과 같은지 상수 시간으로 비교한다.
+     */
+    boolean matches(String plainPassword, String salt, String encryptedPassword);
 }
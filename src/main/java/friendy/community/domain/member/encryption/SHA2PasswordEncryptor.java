@@ -4,27 +4,59 @@ import friendy.community.global.exception.ErrorCode;
 import friendy.community.global.exception.FriendyException;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 
+/**
+ * SHA-256(비밀번호 || salt) 로 비밀번호를 암호화한다.
+ * MessageDigest 는 스레드 안전하지 않으므로 호출마다 원본을 복제해 쓴다.
+ * 요청마다 새 가상 스레드가 생기면 ThreadLocal 은 재사용되지 않기 때문이다.
+ * 문자열을 이어 붙이지 않고 UTF-8 바이트를 차례로 넣는다.
+ * 결과는 기존 plainPassword + salt 를 UTF-8 로 해시한 값과 같아 저장된 비밀번호를 그대로 검증할 수 있다.
+ */
 @Component
-public class SHA2PasswordEncryptor implements PasswordEncryptor{
+public class SHA2PasswordEncryptor implements PasswordEncryptor {
 
-    private final MessageDigest digest;
+    private static final MessageDigest DIGEST_PROTOTYPE = createDigest();
 
-    public SHA2PasswordEncryptor() {
+    @Override
+    public String encrypt(final String plainPassword, final String salt) {
+        return Base64.getEncoder().encodeToString(hash(plainPassword, salt));
+    }
+
+    @Override
+    public boolean matches(final String plainPassword, final String salt, final String encryptedPassword) {
+        final byte[] expected;
         try {
-            digest = MessageDigest.getInstance("SHA-256");
-        } catch (NoSuchAlgorithmException e) {
-            throw new FriendyException(ErrorCode.INTERNAL_SERVER_ERROR, "암호화 알고리즘이 잘못 명시되었습니다.");
+            expected = Base64.getDecoder().decode(encryptedPassword);
+        } catch (IllegalArgumentException e) {
+            return false;
         }
+        return MessageDigest.isEqual(hash(plainPassword, salt), expected);
     }
 
-    @Override
-    public String encrypt(String plainPassword, String salt) {
-        String passwordWithSalt = plainPassword + salt;
-        byte[] encryptByte = digest.digest(passwordWithSalt.getBytes());
-        return Base64.getEncoder().encodeToString(encryptByte);
+    private byte[] hash(final String plainPassword, final String salt) {
+        final MessageDigest digest = newDigest();
+        digest.update(plainPassword.getBytes(StandardCharsets.UTF_8));
+        digest.update(salt.getBytes(StandardCharsets.UTF_8));
+        return digest.digest();
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return (MessageDigest) DIGEST_PROTOTYPE.clone();
+        } catch (CloneNotSupportedException e) {
+            return createDigest();
+        }
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new FriendyException(ErrorCode.INTERNAL_SERVER_ERROR, "암호화 알고리즘이 잘못 명시되었습니다.");
+        }
     }
 }
@@ -43,8 +43,4 @@ public class Member {
     public static Member of(final MemberSignUpRequest request, final String encryptedPassword, final String salt) {
         return new Member(request.email(), request.nickname(), encryptedPassword, salt, request.birthDate());
     }
-
-    public boolean matchPassword(String password) {
-        return this.password.equals(password);
-    }
 }
\ No newline at end of file
@@ -1,7 +1,8 @@
 package friendy.community.domain.member.service;
 
-import friendy.community.domain.auth.jwt.JwtTokenExtractor;
-import friendy.community.domain.auth.jwt.JwtTokenProvider;
+import friendy.community.domain.auth.principal.AuthMemberResolver;
+import friendy.community.domain.member.cache.CachedMember;
+import friendy.community.domain.member.cache.MemberCache;
 import friendy.community.domain.member.dto.request.PasswordRequest;
 import friendy.community.domain.auth.service.AuthService;
 import friendy.community.domain.member.dto.request.MemberSignUpRequest;
@@ -25,9 +26,9 @@ public class MemberService {
     private final MemberRepository  memberRepository;
     private final SaltGenerator saltGenerator;
     private final PasswordEncryptor passwordEncryptor;
-    private final JwtTokenExtractor jwtTokenExtractor;
-    private final JwtTokenProvider jwtTokenProvider;
+    private final AuthMemberResolver authMemberResolver;
     private final AuthService authService;
+    private final MemberCache memberCache;
 
     public Long signUp(MemberSignUpRequest request) {
         validateUniqueMemberAttributes(request);
@@ -35,6 +36,7 @@ public class MemberService {
         final String encryptedPassword = passwordEncryptor.encrypt(request.password(), salt);
         final Member member = Member.of(request, encryptedPassword, salt);
         memberRepository.save(member);
+        memberCache.evict(member.getId(), member.getEmail());
 
         return member.getId();
     }
@@ -47,13 +49,13 @@ public class MemberService {
 
         member.resetPassword(encryptedPassword, salt);
         memberRepository.save(member);
+        memberCache.evict(member.getId(), member.getEmail());
     }
 
     public FindMemberResponse getMember(HttpServletRequest httpServletRequest, Long memberId) {
-        final String accessToken = jwtTokenExtractor.extractAccessToken(httpServletRequest);
-        final String email = jwtTokenProvider.extractEmailFromAccessToken(accessToken);
+        final String email = authMemberResolver.resolve(httpServletRequest).email();
 
-        final Member member = findMemberById(memberId);
+        final CachedMember member = findMemberById(memberId);
         boolean isMe = isCurrentUser(member, email);
 
         return FindMemberResponse.from(member, isMe);
@@ -76,13 +78,13 @@ public class MemberService {
         }
     }
 
-    private Member findMemberById(Long memberId) {
-        return memberRepository.findById(memberId)
+    private CachedMember findMemberById(Long memberId) {
+        return memberCache.findById(memberId)
                 .orElseThrow(() -> new FriendyException(ErrorCode.RESOURCE_NOT_FOUND, "존재하지 않는 회원입니다."));
     }
 
-    private boolean isCurrentUser(Member member, String email) {
-        return member.getEmail().equals(email);
+    private boolean isCurrentUser(CachedMember member, String email) {
+        return member.email().equals(email);
     }
 
 }
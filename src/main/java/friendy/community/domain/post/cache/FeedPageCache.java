@@ -0,0 +1,219 @@
+package friendy.community.domain.post.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import friendy.community.domain.post.dto.response.FindAllPostResponse;
+import friendy.community.global.cache.CacheInvalidationBroadcaster;
+import friendy.community.global.cache.CacheInvalidationListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 가장 많이 조회되는 피드 앞쪽 페이지를 직렬화된 JSON 바이트 그대로 Redis 에 캐싱한다.
+ * 키에 버전을 포함해 게시글이 바뀌면 버전만 올려 이전 페이지를 한 번에 무효화하고, 남은 키는 TTL 로 정리된다.
+ * 같은 키에 대한 동시 미스는 하나의 조회로 합쳐 캐시 미스가 DB 쏠림으로 이어지지 않게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedPageCache implements CacheInvalidationListener {
+
+    private static final String INVALIDATION_CHANNEL = "friendy:cache:post-feed";
+    private static final String VERSION_KEY = "post:feed:version";
+    private static final String PAGE_KEY_FORMAT = "post:feed:v%d:page:%d";
+
+    private final RedisTemplate<String, byte[]> feedRedisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final CacheInvalidationBroadcaster cacheInvalidationBroadcaster;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicLong version = new AtomicLong();
+    private final ConcurrentMap<String, CompletableFuture<byte[]>> inFlightLoads = new ConcurrentHashMap<>();
+
+    @Value("${friendy.cache.redis.enabled:true}")
+    private boolean redisEnabled;
+    @Value("${friendy.post.feed-cache.pages:3}")
+    private int cachedPages;
+    @Value("${friendy.post.feed-cache.ttl:30s}")
+    private Duration ttl;
+
+    private Counter hits;
+    private Counter misses;
+
+    @PostConstruct
+    void initialize() {
+        hits = meterRegistry.counter("cache.gets", "cache", "post.feed", "result", "hit");
+        misses = meterRegistry.counter("cache.gets", "cache", "post.feed", "result", "miss");
+        version.set(readVersion());
+    }
+
+    public boolean isCacheable(final int page) {
+        return page >= 0 && page < cachedPages;
+    }
+
+    /**
+     * 피드 응답은 캐시 TTL 만큼 늦게 반영될 수 있으므로, ETag 도 버전과 TTL 구간으로 만든다.
+     * 게시글 변경이 없어도 TTL 구간이 지나면 ETag 가 바뀌어 좋아요 수 같은 값이 결국 반영된다.
+     */
+    public String currentETag() {
+        return "\"feed-%d-%d\"".formatted(version.get(), System.currentTimeMillis() / ttl.toMillis());
+    }
+
+    /**
+     * 캐시 대상이 아닌 페이지는 저장하지 않고 직렬화만 해서, 컨트롤러가 모든 페이지를 같은 JSON 바이트 응답으로 내보낼 수 있게 한다.
+     */
+    public byte[] getPage(final int page, final Supplier<FindAllPostResponse> loader) {
+        if (!isCacheable(page)) {
+            return serialize(loader.get());
+        }
+        final String key = PAGE_KEY_FORMAT.formatted(version.get(), page);
+        final byte[] cachedPage = readFromRedis(key);
+        if (cachedPage != null) {
+            hits.increment();
+            return cachedPage;
+        }
+        misses.increment();
+
+        final CompletableFuture<byte[]> load = new CompletableFuture<>();
+        final CompletableFuture<byte[]> inFlightLoad = inFlightLoads.putIfAbsent(key, load);
+        if (inFlightLoad != null) {
+            return await(inFlightLoad);
+        }
+        try {
+            final byte[] loadedPage = serialize(loader.get());
+            writeToRedis(key, loadedPage);
+            load.complete(loadedPage);
+            return loadedPage;
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLoads.remove(key, load);
+        }
+    }
+
+    /**
+     * 트랜잭션이 커밋된 뒤 버전을 올린다. 커밋 전에 올리면 다른 요청이 이전 데이터로 새 버전을 채울 수 있다.
+     */
+    public void invalidateAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate();
+            }
+        });
+    }
+
+    @Override
+    public String channel() {
+        return INVALIDATION_CHANNEL;
+    }
+
+    @Override
+    public void onInvalidation(final String message) {
+        try {
+            final long newVersion = Long.parseLong(message);
+            version.accumulateAndGet(newVersion, Math::max);
+        } catch (NumberFormatException e) {
+            log.warn("[FeedPageCache] 잘못된 무효화 메시지 - 메시지 : {}", message);
+        }
+    }
+
+    private void invalidate() {
+        final long newVersion = incrementVersion();
+        version.accumulateAndGet(newVersion, Math::max);
+        cacheInvalidationBroadcaster.broadcast(INVALIDATION_CHANNEL, String.valueOf(newVersion));
+    }
+
+    private long readVersion() {
+        if (!redisEnabled) {
+            return 0;
+        }
+        try {
+            final String storedVersion = stringRedisTemplate.opsForValue().get(VERSION_KEY);
+            return storedVersion == null ? 0 : Long.parseLong(storedVersion);
+        } catch (DataAccessException | NumberFormatException e) {
+            log.warn("[FeedPageCache] 피드 캐시 버전 조회 실패");
+            return 0;
+        }
+    }
+
+    private long incrementVersion() {
+        if (!redisEnabled) {
+            return version.get() + 1;
+        }
+        try {
+            final Long newVersion = stringRedisTemplate.opsForValue().increment(VERSION_KEY);
+            return newVersion == null ? version.get() + 1 : newVersion;
+        } catch (DataAccessException e) {
+            log.warn("[FeedPageCache] 피드 캐시 버전 증가 실패");
+            return version.get() + 1;
+        }
+    }
+
+    private byte[] readFromRedis(final String key) {
+        if (!redisEnabled) {
+            return null;
+        }
+        try {
+            return feedRedisTemplate.opsForValue().get(key);
+        } catch (DataAccessException e) {
+            log.warn("[FeedPageCache] Redis 조회 실패 - 키 : {}", key);
+            return null;
+        }
+    }
+
+    private void writeToRedis(final String key, final byte[] page) {
+        if (!redisEnabled) {
+            return;
+        }
+        try {
+            feedRedisTemplate.opsForValue().set(key, page, ttl);
+        } catch (DataAccessException e) {
+            log.warn("[FeedPageCache] Redis 저장 실패 - 키 : {}", key);
+        }
+    }
+
+    private byte[] serialize(final FindAllPostResponse response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("피드 응답 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private byte[] await(final CompletableFuture<byte[]> inFlightLoad) {
+        try {
+            return inFlightLoad.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+}
@@ -0,0 +1,201 @@
+package friendy.community.domain.post.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import friendy.community.domain.post.dto.response.FindPostResponse;
+import friendy.community.domain.post.dto.response.VersionedPostResponse;
+import friendy.community.global.cache.CacheInvalidationBroadcaster;
+import friendy.community.global.cache.CacheInvalidationListener;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 단건 조회 결과를 수정 시각과 함께 노드별로 캐싱한다.
+ * 크기는 응답의 추정 바이트 수로 제한하고(W-TinyLFU), 만료 시각에 지터를 더해 같은 시점에 적재된 항목이 한꺼번에 만료되지 않게 한다.
+ * 게시글이 수정/삭제되면 즉시 비우고 pub/sub 으로 다른 노드에도 전파한다.
+ * 적재를 시작한 뒤 무효화가 한 번이라도 일어났으면 읽어 둔 값이 이미 낡았을 수 있으므로 캐시에 넣지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCache implements CacheInvalidationListener {
+
+    private static final String INVALIDATION_CHANNEL = "friendy:cache:post";
+    private static final String MESSAGE_DELIMITER = ",";
+    private static final int BASE_ENTRY_BYTES = 256;
+
+    private final CacheInvalidationBroadcaster cacheInvalidationBroadcaster;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${friendy.post.cache.maximum-bytes:67108864}")
+    private long maximumBytes;
+    @Value("${friendy.post.cache.ttl:60s}")
+    private Duration ttl;
+    @Value("${friendy.post.cache.ttl-jitter:0.2}")
+    private double ttlJitter;
+
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private Cache<Long, VersionedPostResponse> postsById;
+
+    @PostConstruct
+    void initialize() {
+        postsById = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher((Long postId, VersionedPostResponse post) -> estimateBytes(post.post()))
+                .expireAfter(new JitteredExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, postsById, "post");
+        Gauge.builder("cache.estimated.bytes", postsById, cache -> cache.policy().eviction()
+                        .map(eviction -> eviction.weightedSize().orElse(0L))
+                        .orElse(0L))
+                .tag("cache", "post")
+                .description("캐시된 게시글 응답의 추정 메모리 사용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 롤백될 수 있는 트랜잭션에서 읽은 값이 남지 않도록 적재는 커밋 이후에 한다.
+     */
+    public VersionedPostResponse get(final Long postId, final Function<Long, VersionedPostResponse> loader) {
+        final VersionedPostResponse cachedPost = postsById.getIfPresent(postId);
+        if (cachedPost != null) {
+            return cachedPost;
+        }
+        final long invalidationsBeforeLoad = invalidations.get();
+        final VersionedPostResponse loadedPost = loader.apply(postId);
+        putAfterCommit(postId, loadedPost, invalidationsBeforeLoad);
+        return loadedPost;
+    }
+
+    /**
+     * 즉시 비우고, 진행 중인 트랜잭션이 끝난 뒤 한 번 더 비워 그 사이 이전 데이터로 다시 적재된 값도 제거한다.
+     */
+    public void evict(final Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        final List<Long> evictedIds = List.copyOf(postIds);
+        evictEverywhere(evictedIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    evictEverywhere(evictedIds);
+                }
+            });
+        }
+    }
+
+    @Override
+    public String channel() {
+        return INVALIDATION_CHANNEL;
+    }
+
+    @Override
+    public void onInvalidation(final String message) {
+        try {
+            invalidate(Arrays.stream(message.split(MESSAGE_DELIMITER))
+                    .map(Long::valueOf)
+                    .toList());
+        } catch (NumberFormatException e) {
+            log.warn("[PostCache] 잘못된 무효화 메시지 - 메시지 : {}", message);
+        }
+    }
+
+    private void putAfterCommit(final Long postId, final VersionedPostResponse post, final long invalidationsBeforeLoad) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            putUnlessInvalidated(postId, post, invalidationsBeforeLoad);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                putUnlessInvalidated(postId, post, invalidationsBeforeLoad);
+            }
+        });
+    }
+
+    /**
+     * 무효화는 번호를 올린 뒤 비우므로, 넣은 뒤 번호를 다시 확인하면 넣기 직전에 끝난 무효화도 놓치지 않는다.
+     */
+    private void putUnlessInvalidated(final Long postId, final VersionedPostResponse post, final long invalidationsBeforeLoad) {
+        if (invalidations.get() != invalidationsBeforeLoad) {
+            return;
+        }
+        postsById.put(postId, post);
+        if (invalidations.get() != invalidationsBeforeLoad) {
+            postsById.invalidate(postId);
+        }
+    }
+
+    private void invalidate(final List<Long> postIds) {
+        invalidations.incrementAndGet();
+        postsById.invalidateAll(postIds);
+    }
+
+    private void evictEverywhere(final List<Long> postIds) {
+        invalidate(postIds);
+        final String message = postIds.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(MESSAGE_DELIMITER));
+        cacheInvalidationBroadcaster.broadcast(INVALIDATION_CHANNEL, message);
+    }
+
+    private static int estimateBytes(final FindPostResponse post) {
+        int bytes = BASE_ENTRY_BYTES + post.content().length() * 2;
+        if (post.authorResponse() != null && post.authorResponse().nickname() != null) {
+            bytes += post.authorResponse().nickname().length() * 2;
+        }
+        for (String hashtag : post.hashtags()) {
+            bytes += 48 + hashtag.length() * 2;
+        }
+        return bytes;
+    }
+
+    private class JitteredExpiry implements Expiry<Long, VersionedPostResponse> {
+
+        @Override
+        public long expireAfterCreate(final Long postId, final VersionedPostResponse post, final long currentTime) {
+            final long ttlNanos = ttl.toNanos();
+            final long jitterNanos = (long) (ttlNanos * ttlJitter);
+            if (jitterNanos <= 0) {
+                return ttlNanos;
+            }
+            return ttlNanos - jitterNanos + ThreadLocalRandom.current().nextLong(jitterNanos * 2 + 1);
+        }
+
+        @Override
+        public long expireAfterUpdate(final Long postId, final VersionedPostResponse post,
+                                      final long currentTime, final long currentDuration) {
+            return expireAfterCreate(postId, post, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(final Long postId, final VersionedPostResponse post,
+                                    final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+}
@@ -1,16 +1,25 @@
 package friendy.community.domain.post.controller;
 
+import friendy.community.domain.post.cache.FeedPageCache;
+import friendy.community.domain.post.dto.request.PostBatchDeleteRequest;
 import friendy.community.domain.post.dto.request.PostCreateRequest;
 import friendy.community.domain.post.dto.request.PostUpdateRequest;
+import friendy.community.domain.post.dto.response.DeletePostsResponse;
 import friendy.community.domain.post.dto.response.FindPostResponse;
 import friendy.community.domain.post.dto.response.FindAllPostResponse;
+import friendy.community.domain.post.dto.response.VersionedPostResponse;
+import friendy.community.domain.post.service.PostBatchService;
+import friendy.community.domain.post.service.PostLikeService;
 import friendy.community.domain.post.service.PostService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import java.net.URI;
 import org.springframework.data.domain.Pageable;
 
@@ -20,6 +29,9 @@ import org.springframework.data.domain.Pageable;
 public class PostController implements SpringDocPostController {
 
     private final PostService postService;
+    private final PostBatchService postBatchService;
+    private final PostLikeService postLikeService;
+    private final FeedPageCache feedPageCache;
 
     @PostMapping
     public ResponseEntity<Void> createPost(
@@ -49,19 +61,87 @@ public class PostController implements SpringDocPostController {
         return ResponseEntity.ok().build();
     }
 
+    @PostMapping("/batch-delete")
+    public ResponseEntity<DeletePostsResponse> deletePosts(
+            HttpServletRequest httpServletRequest,
+            @Valid @RequestBody PostBatchDeleteRequest postBatchDeleteRequest
+    ) {
+        return ResponseEntity.ok(postBatchService.deletePosts(httpServletRequest, postBatchDeleteRequest.postIds()));
+    }
+
+    @DeleteMapping("/me")
+    public ResponseEntity<DeletePostsResponse> deleteMyPosts(
+            HttpServletRequest httpServletRequest
+    ) {
+        return ResponseEntity.ok(postBatchService.deleteAllPostsOfMember(httpServletRequest));
+    }
+
+    @PostMapping("/{postId}/likes")
+    public ResponseEntity<Void> likePost(
+            HttpServletRequest httpServletRequest,
+            @PathVariable Long postId
+    ) {
+        postLikeService.likePost(httpServletRequest, postId);
+        return ResponseEntity.ok().build();
+    }
+
+    @DeleteMapping("/{postId}/likes")
+    public ResponseEntity<Void> unlikePost(
+            HttpServletRequest httpServletRequest,
+            @PathVariable Long postId
+    ) {
+        postLikeService.unlikePost(httpServletRequest, postId);
+        return ResponseEntity.ok().build();
+    }
+
     @GetMapping("/{postId}")
     public ResponseEntity<FindPostResponse> getPost(
-            @PathVariable Long postId
+            HttpServletRequest httpServletRequest,
+            @PathVariable Long postId,
+            WebRequest webRequest
+    ) {
+        VersionedPostResponse versionedPost = postService.getVersionedPost(postId, httpServletRequest);
+        if (webRequest.checkNotModified(versionedPost.eTag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(versionedPost.eTag())
+                .body(versionedPost.post());
+    }
+
+    @GetMapping
+    public ResponseEntity<FindAllPostResponse> getPostsByHashtag(
+            @RequestParam String hashtag,
+            @RequestParam(required = false) String cursor
     ) {
-        return ResponseEntity.ok(postService.getPost(postId));
+        return ResponseEntity.ok(postService.getPostsByHashtag(hashtag, cursor));
     }
 
-    @GetMapping("/list")
-    public ResponseEntity<FindAllPostResponse> getAllPosts(
-            @RequestParam(defaultValue = "0") int page
+    @GetMapping(value = "/list", params = "!cursor")
+    public ResponseEntity<byte[]> getAllPosts(
+            @RequestParam(defaultValue = "0") int page,
+            WebRequest webRequest
     ) {
+        String eTag = feedPageCache.currentETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         Pageable pageable = PageRequest.of(page, 10);
-        return ResponseEntity.ok(postService.getAllPosts(pageable));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(feedPageCache.getPage(page, () -> postService.getAllPosts(pageable)));
+    }
+
+    @GetMapping(value = "/list", params = "cursor")
+    public ResponseEntity<FindAllPostResponse> getAllPostsByCursor(
+            @RequestParam String cursor,
+            WebRequest webRequest
+    ) {
+        String eTag = feedPageCache.currentETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok(postService.getAllPostsByCursor(cursor));
     }
 
 }
\ No newline at end of file
@@ -1,12 +1,17 @@
 package friendy.community.domain.post.controller;
 
+import friendy.community.domain.post.dto.request.PostBatchDeleteRequest;
 import friendy.community.domain.post.dto.request.PostCreateRequest;
 import friendy.community.domain.post.dto.request.PostUpdateRequest;
+import friendy.community.domain.post.dto.response.DeletePostsResponse;
 import friendy.community.domain.post.dto.response.FindAllPostResponse;
 import friendy.community.domain.post.dto.response.FindPostResponse;
 import friendy.community.global.swagger.error.ApiErrorResponse;
 import friendy.community.global.swagger.error.ErrorCase;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -16,6 +21,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
 
 @Tag(name = "게시글 API", description = "게시글 생성 API")
 public interface SpringDocPostController {
@@ -25,6 +31,9 @@ public interface SpringDocPostController {
     @ApiErrorResponse(status = HttpStatus.BAD_REQUEST, instance = "/posts", errorCases = {
             @ErrorCase(description = "게시글 내용 없음", exampleMessage = "게시글 내용이 입력되지 않았습니다.")
     })
+    @ApiErrorResponse(status = HttpStatus.NOT_FOUND, instance = "/posts", errorCases = {
+            @ErrorCase(description = "토큰의 회원이 탈퇴함", exampleMessage = "존재하지 않는 회원입니다.")
+    })
     @ApiErrorResponse(status = HttpStatus.UNAUTHORIZED, instance = "/posts", errorCases = {
             @ErrorCase(description = "액세스 토큰 추출 실패", exampleMessage = "인증 실패(액세스 토큰 추출 실패) - 토큰 : {token}"),
             @ErrorCase(description = "JWT 액세스 토큰 Payload 이메일 누락", exampleMessage = "인증 실패(JWT 액세스 토큰 Payload 이메일 누락) - 토큰 : {token}")
@@ -75,22 +84,112 @@ public interface SpringDocPostController {
             @PathVariable Long postId
     );
 
+    @Operation(summary = "게시글 일괄 삭제", description = "요청한 게시글 중 본인이 작성한 게시글을 일괄 삭제합니다.")
+    @ApiResponse(responseCode = "200", description = "게시글 일괄 삭제 성공")
+    @ApiErrorResponse(status = HttpStatus.BAD_REQUEST, instance = "/posts/batch-delete", errorCases = {
+            @ErrorCase(description = "삭제할 게시글 없음", exampleMessage = "삭제할 게시글이 입력되지 않았습니다."),
+            @ErrorCase(description = "삭제할 게시글 수 초과", exampleMessage = "게시글은 한 번에 1000개까지 삭제할 수 있습니다.")
+    })
+    @ApiErrorResponse(status = HttpStatus.UNAUTHORIZED, instance = "/posts/batch-delete", errorCases = {
+            @ErrorCase(description = "액세스 토큰 추출 실패", exampleMessage = "인증 실패(액세스 토큰 추출 실패) - 토큰 : {token}"),
+            @ErrorCase(description = "JWT 액세스 토큰 Payload 이메일 누락", exampleMessage = "인증 실패(JWT 액세스 토큰 Payload 이메일 누락) - 토큰 : {token}")
+    })
+    ResponseEntity<DeletePostsResponse> deletePosts(
+            HttpServletRequest httpServletRequest,
+            @RequestBody PostBatchDeleteRequest postBatchDeleteRequest
+    );
+
+    @Operation(summary = "내 게시글 전체 삭제", description = "본인이 작성한 모든 게시글을 일괄 삭제합니다.")
+    @ApiResponse(responseCode = "200", description = "내 게시글 전체 삭제 성공")
+    @ApiErrorResponse(status = HttpStatus.UNAUTHORIZED, instance = "/posts/me", errorCases = {
+            @ErrorCase(description = "액세스 토큰 추출 실패", exampleMessage = "인증 실패(액세스 토큰 추출 실패) - 토큰 : {token}"),
+            @ErrorCase(description = "JWT 액세스 토큰 Payload 이메일 누락", exampleMessage = "인증 실패(JWT 액세스 토큰 Payload 이메일 누락) - 토큰 : {token}")
+    })
+    ResponseEntity<DeletePostsResponse> deleteMyPosts(
+            HttpServletRequest httpServletRequest
+    );
+
+    @Operation(summary = "게시글 좋아요", description = "게시글에 좋아요를 누릅니다. 같은 게시글에는 한 번만 좋아요할 수 있습니다.")
+    @ApiResponse(responseCode = "200", description = "게시글 좋아요 성공")
+    @ApiErrorResponse(status = HttpStatus.NOT_FOUND, instance = "/posts/{postId}/likes", errorCases = {
+            @ErrorCase(description = "존재하지 않는 게시글 ID", exampleMessage = "존재하지 않는 게시글입니다.")
+    })
+    @ApiErrorResponse(status = HttpStatus.CONFLICT, instance = "/posts/{postId}/likes", errorCases = {
+            @ErrorCase(description = "이미 좋아요한 게시글", exampleMessage = "이미 좋아요한 게시글입니다.")
+    })
+    @ApiErrorResponse(status = HttpStatus.UNAUTHORIZED, instance = "/posts/{postId}/likes", errorCases = {
+            @ErrorCase(description = "액세스 토큰 추출 실패", exampleMessage = "인증 실패(액세스 토큰 추출 실패) - 토큰 : {token}"),
+            @ErrorCase(description = "JWT 액세스 토큰 Payload 이메일 누락", exampleMessage = "인증 실패(JWT 액세스 토큰 Payload 이메일 누락) - 토큰 : {token}")
+    })
+    @ApiErrorResponse(status = HttpStatus.SERVICE_UNAVAILABLE, instance = "/posts/{postId}/likes", errorCases = {
+            @ErrorCase(description = "좋아요 회원 집합 정리 실패", exampleMessage = "좋아요를 처리할 수 없습니다. 잠시 후 다시 시도해주세요.")
+    })
+    ResponseEntity<Void> likePost(
+            HttpServletRequest httpServletRequest,
+            @PathVariable Long postId
+    );
+
+    @Operation(summary = "게시글 좋아요 취소", description = "게시글에 누른 좋아요를 취소합니다.")
+    @ApiResponse(responseCode = "200", description = "게시글 좋아요 취소 성공")
+    @ApiErrorResponse(status = HttpStatus.NOT_FOUND, instance = "/posts/{postId}/likes", errorCases = {
+            @ErrorCase(description = "존재하지 않는 게시글 ID", exampleMessage = "존재하지 않는 게시글입니다."),
+            @ErrorCase(description = "좋아요하지 않은 게시글", exampleMessage = "좋아요하지 않은 게시글입니다.")
+    })
+    @ApiErrorResponse(status = HttpStatus.UNAUTHORIZED, instance = "/posts/{postId}/likes", errorCases = {
+            @ErrorCase(description = "액세스 토큰 추출 실패", exampleMessage = "인증 실패(액세스 토큰 추출 실패) - 토큰 : {token}"),
+            @ErrorCase(description = "JWT 액세스 토큰 Payload 이메일 누락", exampleMessage = "인증 실패(JWT 액세스 토큰 Payload 이메일 누락) - 토큰 : {token}")
+    })
+    @ApiErrorResponse(status = HttpStatus.SERVICE_UNAVAILABLE, instance = "/posts/{postId}/likes", errorCases = {
+            @ErrorCase(description = "좋아요 회원 집합 정리 실패", exampleMessage = "좋아요를 처리할 수 없습니다. 잠시 후 다시 시도해주세요.")
+    })
+    ResponseEntity<Void> unlikePost(
+            HttpServletRequest httpServletRequest,
+            @PathVariable Long postId
+    );
+
     @Operation(summary = "게시글 조회", description = "페이지네이션을 통해 게시글 목록을 조회합니다.")
     @ApiResponse(responseCode = "200", description = "게시글 조회 성공")
+    @ApiResponse(responseCode = "304", description = "If-None-Match 의 ETag 이후 게시글이 변경되지 않음")
     @ApiErrorResponse(status = HttpStatus.NOT_FOUND, instance = "/posts/{postId}", errorCases = {
             @ErrorCase(description = "존재하지 않는 게시글 ID", exampleMessage = "존재하지 않는 게시글입니다.")
     })
     ResponseEntity<FindPostResponse> getPost(
-            @PathVariable Long postId
+            HttpServletRequest httpServletRequest,
+            @PathVariable Long postId,
+            @Parameter(hidden = true) WebRequest webRequest
     );
 
-    @Operation(summary = "게시글 목록 조회", description = "페이지네이션을 통해 게시글 목록을 조회합니다.")
-    @ApiResponse(responseCode = "200", description = "게시글 목록 조회 성공")
+    @Operation(summary = "게시글 목록 조회", description = "페이지네이션을 통해 게시글 목록을 조회합니다. 앞쪽 페이지는 캐시에 저장된 JSON을 그대로 반환합니다.")
+    @ApiResponse(responseCode = "200", description = "게시글 목록 조회 성공",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = FindAllPostResponse.class)))
+    @ApiResponse(responseCode = "304", description = "If-None-Match 이후 게시글 목록이 변경되지 않음")
     @ApiErrorResponse(status = HttpStatus.NOT_FOUND, instance = "/posts/list", errorCases = {
         @ErrorCase(description = "요청한 페이지가 존재하지 않음", exampleMessage = "요청한 페이지가 존재하지 않습니다.")
     })
-    ResponseEntity<FindAllPostResponse> getAllPosts(
-            @RequestParam(defaultValue = "0") int page
+    ResponseEntity<byte[]> getAllPosts(
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(hidden = true) WebRequest webRequest
+    );
+
+    @Operation(summary = "커서 기반 게시글 목록 조회", description = "응답의 nextCursor를 cursor로 전달하면 page 대신 커서 기반으로 다음 목록을 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "게시글 목록 조회 성공")
+    @ApiResponse(responseCode = "304", description = "If-None-Match 이후 게시글 목록이 변경되지 않음")
+    @ApiErrorResponse(status = HttpStatus.BAD_REQUEST, instance = "/posts/list", errorCases = {
+        @ErrorCase(description = "잘못된 커서", exampleMessage = "잘못된 커서입니다.")
+    })
+    ResponseEntity<FindAllPostResponse> getAllPostsByCursor(
+            @RequestParam String cursor,
+            @Parameter(hidden = true) WebRequest webRequest
+    );
+
+    @Operation(summary = "해시태그별 게시글 목록 조회", description = "해시태그가 달린 게시글을 최신순으로 조회합니다. 응답의 nextCursor를 cursor로 전달하면 다음 목록을 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "해시태그별 게시글 목록 조회 성공")
+    @ApiErrorResponse(status = HttpStatus.BAD_REQUEST, instance = "/posts", errorCases = {
+        @ErrorCase(description = "잘못된 커서", exampleMessage = "잘못된 커서입니다.")
+    })
+    ResponseEntity<FindAllPostResponse> getPostsByHashtag(
+            @RequestParam String hashtag,
+            @RequestParam(required = false) String cursor
     );
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,263 @@
+package friendy.community.domain.post.counter;
+
+import friendy.community.domain.post.cache.PostCache;
+import friendy.community.domain.post.repository.PostCounterJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * 좋아요/공유 수를 클릭마다 UPDATE 하지 않고 게시글별 LongAdder 에 모았다가 주기적으로 배치 UPDATE 한다.
+ * 반영할 때는 읽은 값만큼만 차감하므로 반영 중에 들어온 증감분은 다음 주기로 넘어간다.
+ * 반영에 실패한 증감분은 메모리에 쌓아 두지 않고 Redis 해시에 HINCRBY 로 넘기고, 다음 반영 때 어느 노드든 꺼내 함께 반영한다.
+ * 따라서 DB 장애 중에도 메모리에는 한 주기분만 남고, 프로세스가 비정상 종료되면 마지막 반영 이후 한 주기분만 잃는다.
+ * Redis 에 넘긴 증감분은 반영될 때까지 조회 응답에 더해지지 않으며, Redis 도 쓸 수 없으면 메모리에 되돌려 둔다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCounterBuffer {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final String SPILLED_DELTAS_KEY = "post:counter:spilled";
+    private static final String LIKE_FIELD_SUFFIX = ":like";
+    private static final String SHARE_FIELD_SUFFIX = ":share";
+    private static final RedisScript<List> TAKE_SPILLED_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/post_counter_take.lua"), List.class);
+
+    private final PostCounterJdbcRepository postCounterJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final PostCache postCache;
+    private final MeterRegistry meterRegistry;
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${friendy.cache.redis.enabled:true}")
+    private boolean redisEnabled;
+
+    private final ConcurrentMap<Long, Deltas> pendingDeltas = new ConcurrentHashMap<>();
+    private final List<Deltas> retiredDeltas = new ArrayList<>();
+
+    private Counter failedFlushes;
+
+    @PostConstruct
+    void initialize() {
+        Gauge.builder("post.counter.pending", pendingDeltas, Map::size)
+                .description("DB 반영을 기다리는 게시글 수")
+                .register(meterRegistry);
+        failedFlushes = meterRegistry.counter("post.counter.flush.failures");
+    }
+
+    public void increment(final Long postId, final PostCounterType type) {
+        add(postId, type, 1);
+    }
+
+    public void decrement(final Long postId, final PostCounterType type) {
+        add(postId, type, -1);
+    }
+
+    public void add(final Long postId, final PostCounterType type, final long delta) {
+        pendingDeltas.computeIfAbsent(postId, Deltas::new).add(type, delta);
+    }
+
+    public PostCounterDelta getPending(final Long postId) {
+        final Deltas deltas = pendingDeltas.get(postId);
+        return deltas == null ? PostCounterDelta.NONE : deltas.snapshot();
+    }
+
+    public void forget(final Long postId) {
+        pendingDeltas.remove(postId);
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    @Scheduled(fixedDelayString = "${friendy.post.counter.flush-interval-ms:1000}",
+            initialDelayString = "${friendy.post.counter.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        final List<PostCounterDelta> flushing = mergeByPostId(collectAndSubtract(), takeSpilled());
+        if (flushing.isEmpty()) {
+            return;
+        }
+        flushing.sort(Comparator.comparing(PostCounterDelta::postId));
+
+        for (int from = 0; from < flushing.size(); from += CHUNK_SIZE) {
+            final List<PostCounterDelta> chunk = flushing.subList(from, Math.min(from + CHUNK_SIZE, flushing.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> postCounterJdbcRepository.applyDeltas(chunk));
+            } catch (RuntimeException e) {
+                final List<PostCounterDelta> unflushed = flushing.subList(from, flushing.size());
+                failedFlushes.increment();
+                log.warn("[PostCounterBuffer] 카운터 반영 실패, 다음 주기에 재시도 - 게시글 수 : {}", unflushed.size(), e);
+                spillOrRestore(unflushed);
+                return;
+            }
+            postCache.evict(chunk.stream().map(PostCounterDelta::postId).toList());
+        }
+    }
+
+    /**
+     * 현재 증감분을 읽고 그만큼만 차감한다. 한 주기 동안 변화가 없던 게시글은 맵에서 제거하되,
+     * 제거 직전에 참조를 얻은 쓰기가 남아 있을 수 있으므로 다음 주기에 한 번 더 확인한다.
+     */
+    private List<PostCounterDelta> collectAndSubtract() {
+        final List<PostCounterDelta> flushing = new ArrayList<>();
+        final List<Deltas> retiring = new ArrayList<>(retiredDeltas);
+        retiredDeltas.clear();
+
+        for (Deltas deltas : pendingDeltas.values()) {
+            final PostCounterDelta snapshot = deltas.snapshot();
+            if (snapshot.isZero()) {
+                if (pendingDeltas.remove(deltas.postId, deltas)) {
+                    retiredDeltas.add(deltas);
+                }
+                continue;
+            }
+            deltas.subtract(snapshot);
+            flushing.add(snapshot);
+        }
+        for (Deltas deltas : retiring) {
+            final PostCounterDelta snapshot = deltas.snapshot();
+            if (!snapshot.isZero()) {
+                deltas.subtract(snapshot);
+                flushing.add(snapshot);
+            }
+        }
+        return flushing;
+    }
+
+    /**
+     * 이전에 Redis 로 넘긴 증감분을 꺼낸다. 꺼내는 즉시 해시에서 지워지므로 반영에 실패하면 다시 넘긴다.
+     */
+    private List<PostCounterDelta> takeSpilled() {
+        if (!redisEnabled) {
+            return List.of();
+        }
+        final List<?> entries;
+        try {
+            entries = redisTemplate.execute(TAKE_SPILLED_SCRIPT, List.of(SPILLED_DELTAS_KEY));
+        } catch (DataAccessException e) {
+            log.warn("[PostCounterBuffer] Redis 에 넘긴 카운터 증감분 조회 실패, 다음 주기에 재시도");
+            return List.of();
+        }
+        if (entries == null) {
+            return List.of();
+        }
+
+        final List<PostCounterDelta> spilled = new ArrayList<>();
+        for (int i = 0; i + 1 < entries.size(); i += 2) {
+            final String field = String.valueOf(entries.get(i));
+            final long delta = Long.parseLong(String.valueOf(entries.get(i + 1)));
+            if (field.endsWith(LIKE_FIELD_SUFFIX)) {
+                spilled.add(new PostCounterDelta(parsePostId(field, LIKE_FIELD_SUFFIX), delta, 0));
+            } else if (field.endsWith(SHARE_FIELD_SUFFIX)) {
+                spilled.add(new PostCounterDelta(parsePostId(field, SHARE_FIELD_SUFFIX), 0, delta));
+            }
+        }
+        return spilled;
+    }
+
+    /**
+     * 반영하지 못한 증감분을 Redis 해시에 더해 둔다. 넘기지 못한 증감분은 메모리에 되돌린다.
+     */
+    private void spillOrRestore(final List<PostCounterDelta> unflushed) {
+        if (!redisEnabled) {
+            unflushed.forEach(this::restore);
+            return;
+        }
+        for (int i = 0; i < unflushed.size(); i++) {
+            final PostCounterDelta delta = unflushed.get(i);
+            boolean likeSpilled = false;
+            try {
+                spill(delta.postId() + LIKE_FIELD_SUFFIX, delta.likeDelta());
+                likeSpilled = true;
+                spill(delta.postId() + SHARE_FIELD_SUFFIX, delta.shareDelta());
+            } catch (DataAccessException e) {
+                log.warn("[PostCounterBuffer] 카운터 증감분을 Redis 에 넘기지 못해 메모리에 보관 - 게시글 수 : {}",
+                        unflushed.size() - i);
+                restore(likeSpilled ? new PostCounterDelta(delta.postId(), 0, delta.shareDelta()) : delta);
+                unflushed.subList(i + 1, unflushed.size()).forEach(this::restore);
+                return;
+            }
+        }
+    }
+
+    private void spill(final String field, final long delta) {
+        if (delta != 0) {
+            redisTemplate.opsForHash().increment(SPILLED_DELTAS_KEY, field, delta);
+        }
+    }
+
+    private Long parsePostId(final String field, final String suffix) {
+        return Long.valueOf(field.substring(0, field.length() - suffix.length()));
+    }
+
+    private List<PostCounterDelta> mergeByPostId(final List<PostCounterDelta> collected, final List<PostCounterDelta> spilled) {
+        final Map<Long, PostCounterDelta> merged = new HashMap<>();
+        Stream.concat(collected.stream(), spilled.stream()).forEach(delta -> merged.merge(delta.postId(), delta, (left, right) -> new PostCounterDelta(
+                left.postId(),
+                left.likeDelta() + right.likeDelta(),
+                left.shareDelta() + right.shareDelta())));
+        return new ArrayList<>(merged.values());
+    }
+
+    private void restore(final PostCounterDelta delta) {
+        pendingDeltas.computeIfAbsent(delta.postId(), Deltas::new).add(delta);
+    }
+
+    private static final class Deltas {
+
+        private final Long postId;
+        private final LongAdder likes = new LongAdder();
+        private final LongAdder shares = new LongAdder();
+
+        private Deltas(final Long postId) {
+            this.postId = postId;
+        }
+
+        private void add(final PostCounterType type, final long delta) {
+            switch (type) {
+                case LIKE -> likes.add(delta);
+                case SHARE -> shares.add(delta);
+            }
+        }
+
+        private void add(final PostCounterDelta delta) {
+            likes.add(delta.likeDelta());
+            shares.add(delta.shareDelta());
+        }
+
+        private void subtract(final PostCounterDelta delta) {
+            likes.add(-delta.likeDelta());
+            shares.add(-delta.shareDelta());
+        }
+
+        private PostCounterDelta snapshot() {
+            return new PostCounterDelta(postId, likes.sum(), shares.sum());
+        }
+    }
+
+}
@@ -0,0 +1,17 @@
+package friendy.community.domain.post.counter;
+
+/**
+ * 아직 DB 에 반영되지 않은 게시글 카운터 증감분.
+ */
+public record PostCounterDelta(
+        Long postId,
+        long likeDelta,
+        long shareDelta
+) {
+
+    public static final PostCounterDelta NONE = new PostCounterDelta(null, 0, 0);
+
+    public boolean isZero() {
+        return likeDelta == 0 && shareDelta == 0;
+    }
+}
@@ -0,0 +1,6 @@
+package friendy.community.domain.post.counter;
+
+public enum PostCounterType {
+    LIKE,
+    SHARE
+}
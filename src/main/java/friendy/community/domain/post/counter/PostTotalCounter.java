@@ -0,0 +1,42 @@
+package friendy.community.domain.post.counter;
+
+import friendy.community.domain.post.repository.PostQueryDSLRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 목록 조회마다 COUNT 쿼리를 실행하지 않도록 전체 게시글 수를 메모리에서 관리한다.
+ * 게시글 생성/삭제 시 증감하며, 다른 서버의 변경분이나 롤백으로 생긴 오차는 주기적인 재동기화로 보정한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostTotalCounter {
+
+    private final PostQueryDSLRepository postQueryDSLRepository;
+    private final AtomicLong total = new AtomicLong();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${friendy.post.total-count.resync-interval-ms:600000}",
+            initialDelayString = "${friendy.post.total-count.resync-interval-ms:600000}")
+    public void resync() {
+        total.set(postQueryDSLRepository.countAllPosts());
+    }
+
+    public void increment() {
+        total.incrementAndGet();
+    }
+
+    public void decrement(final long count) {
+        total.updateAndGet(current -> Math.max(0, current - count));
+    }
+
+    public long getApproximateTotal() {
+        return total.get();
+    }
+
+}
@@ -0,0 +1,17 @@
+package friendy.community.domain.post.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "게시글 일괄 삭제")
+public record PostBatchDeleteRequest(
+
+        @Schema(description = "삭제할 게시글 ID 목록", example = "[1, 2, 3]")
+        @NotEmpty(message = "삭제할 게시글이 입력되지 않았습니다.")
+        @Size(max = 1000, message = "게시글은 한 번에 1000개까지 삭제할 수 있습니다.")
+        List<Long> postIds
+) {
+}
@@ -0,0 +1,36 @@
+package friendy.community.domain.post.dto.request;
+
+import friendy.community.domain.post.model.Post;
+import friendy.community.global.exception.ErrorCode;
+import friendy.community.global.exception.FriendyException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+public record PostCursor(
+        LocalDateTime createdDate,
+        Long id
+) {
+    private static final String DELIMITER = "_";
+
+    public static PostCursor from(final Post post) {
+        return new PostCursor(post.getCreatedDate(), post.getId());
+    }
+
+    public static PostCursor decode(final String encodedCursor) {
+        try {
+            final String decoded = new String(Base64.getUrlDecoder().decode(encodedCursor), StandardCharsets.UTF_8);
+            final String[] parts = decoded.split(DELIMITER);
+            return new PostCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException e) {
+            throw new FriendyException(ErrorCode.INVALID_REQUEST, "잘못된 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        final String raw = createdDate + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
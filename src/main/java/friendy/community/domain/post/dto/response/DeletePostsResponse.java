@@ -0,0 +1,10 @@
+package friendy.community.domain.post.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record DeletePostsResponse(
+
+        @Schema(description = "삭제된 게시글 수", example = "3")
+        long deletedCount
+) {
+}
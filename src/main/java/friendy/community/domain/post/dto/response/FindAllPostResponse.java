@@ -4,6 +4,8 @@ import java.util.List;
 
 public record FindAllPostResponse(
         List<FindPostResponse> posts,
-        Integer totalPages
+        Integer totalPages,
+        boolean hasNext,
+        String nextCursor
 ) {
 }
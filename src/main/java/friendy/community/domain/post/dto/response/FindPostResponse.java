@@ -1,9 +1,11 @@
 package friendy.community.domain.post.dto.response;
 
+import friendy.community.domain.post.counter.PostCounterDelta;
 import friendy.community.domain.post.model.Post;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 
 public record FindPostResponse(
         Long id,
@@ -12,9 +14,11 @@ public record FindPostResponse(
         int likeCount,
         int commentCount,
         int shareCount,
-        FindMemberResponse authorResponse
+        long viewCount,
+        FindMemberResponse authorResponse,
+        List<String> hashtags
 ) {
-    public static FindPostResponse from(Post post) {
+    public static FindPostResponse from(Post post, List<String> hashtags) {
         return new FindPostResponse(
                 post.getId(),
                 post.getContent(),
@@ -22,10 +26,50 @@ public record FindPostResponse(
                 post.getLikeCount(),
                 post.getCommentCount(),
                 post.getShareCount(),
-                FindMemberResponse.from(post.getMember())
+                post.getViewCount(),
+                FindMemberResponse.from(post.getMember()),
+                hashtags
         );
     }
 
+    public static FindPostResponse from(PostSummary postSummary, List<String> hashtags) {
+        return new FindPostResponse(
+                postSummary.id(),
+                postSummary.content(),
+                formatDateTime(postSummary.createdDate()),
+                postSummary.likeCount(),
+                postSummary.commentCount(),
+                postSummary.shareCount(),
+                postSummary.viewCount(),
+                new FindMemberResponse(postSummary.authorId(), postSummary.authorNickname()),
+                hashtags
+        );
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 카운터 증감분을 더한 응답을 반환한다.
+     */
+    public FindPostResponse withPendingCounts(PostCounterDelta pending) {
+        if (pending.isZero()) {
+            return this;
+        }
+        return new FindPostResponse(
+                id,
+                content,
+                createdAt,
+                addCount(likeCount, pending.likeDelta()),
+                commentCount,
+                addCount(shareCount, pending.shareDelta()),
+                viewCount,
+                authorResponse,
+                hashtags
+        );
+    }
+
+    private static int addCount(int persisted, long pending) {
+        return (int) Math.max(0, persisted + pending);
+    }
+
     private static String formatDateTime(LocalDateTime dateTime) {
         if (dateTime == null) {
             return null;
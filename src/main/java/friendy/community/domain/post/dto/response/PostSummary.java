@@ -0,0 +1,19 @@
+package friendy.community.domain.post.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록 조회용 프로젝션. Post 엔티티를 영속성 컨텍스트에 올리지 않고 필요한 컬럼만 조회한다.
+ */
+public record PostSummary(
+        Long id,
+        String content,
+        LocalDateTime createdDate,
+        Integer likeCount,
+        Integer commentCount,
+        Integer shareCount,
+        Long viewCount,
+        Long authorId,
+        String authorNickname
+) {
+}
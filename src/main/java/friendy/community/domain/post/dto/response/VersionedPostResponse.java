@@ -0,0 +1,36 @@
+package friendy.community.domain.post.dto.response;
+
+import friendy.community.domain.post.counter.PostCounterDelta;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 게시글 응답과 수정 시각을 함께 캐싱해, 조건부 조회의 ETag 를 DB 조회 없이 실제로 내려보낼 본문에서 만든다.
+ * 좋아요/댓글/공유 수는 수정 시각과 무관하게 바뀌므로 Last-Modified 는 쓰지 않고 ETag 로만 비교한다.
+ */
+public record VersionedPostResponse(
+        FindPostResponse post,
+        LocalDateTime modifiedDate
+) {
+
+    public VersionedPostResponse withPendingCounts(PostCounterDelta pending) {
+        final FindPostResponse pendingPost = post.withPendingCounts(pending);
+        if (pendingPost == post) {
+            return this;
+        }
+        return new VersionedPostResponse(pendingPost, modifiedDate);
+    }
+
+    /**
+     * 근사 순 조회수는 주기적으로 반영되므로 ETag 에 넣지 않는다. 넣으면 반영될 때마다 조건부 조회가 무효가 된다.
+     */
+    public String eTag() {
+        return "\"post-%d-%d-%d-%d-%d\"".formatted(post.id(), modifiedMillis(),
+                post.likeCount(), post.commentCount(), post.shareCount());
+    }
+
+    private long modifiedMillis() {
+        return modifiedDate.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
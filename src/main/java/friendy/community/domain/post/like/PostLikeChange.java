@@ -0,0 +1,8 @@
+package friendy.community.domain.post.like;
+
+public record PostLikeChange(
+        Long postId,
+        Long memberId,
+        boolean liked
+) {
+}
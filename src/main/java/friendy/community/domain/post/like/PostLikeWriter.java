@@ -0,0 +1,139 @@
+package friendy.community.domain.post.like;
+
+import friendy.community.domain.post.repository.PostLikeJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 좋아요 회원 집합에 반영된 변경분을 모았다가 post_like 테이블에 주기적으로 배치 반영한다.
+ * 같은 회원의 좋아요/취소가 한 주기 안에 여러 번 들어오면 마지막 상태만 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostLikeWriter {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final PostLikeJdbcRepository postLikeJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final Queue<PostLikeChange> pendingChanges = new ConcurrentLinkedQueue<>();
+    private final Object changesLock = new Object();
+    private final List<PostLikeChange> failedChanges = new ArrayList<>();
+    private List<PostLikeChange> inFlightChanges = List.of();
+
+    private Counter failedFlushes;
+
+    @PostConstruct
+    void initialize() {
+        Gauge.builder("post.like.pending", pendingChanges, Queue::size)
+                .description("post_like 테이블 반영을 기다리는 좋아요 변경 수")
+                .register(meterRegistry);
+        failedFlushes = meterRegistry.counter("post.like.flush.failures");
+    }
+
+    public void enqueue(final PostLikeChange change) {
+        pendingChanges.add(change);
+    }
+
+    /**
+     * 아직 post_like 테이블에 커밋되지 않았을 수 있는 게시글의 변경분을 오래된 순으로 반환한다.
+     * 반영 중인 변경분도 포함하므로, 이 목록을 먼저 읽고 테이블을 읽으면 둘을 합쳐 빠짐없는 상태를 얻는다.
+     */
+    public List<PostLikeChange> getPendingChanges(final Long postId) {
+        final List<PostLikeChange> changes = new ArrayList<>();
+        synchronized (changesLock) {
+            inFlightChanges.stream().filter(change -> change.postId().equals(postId)).forEach(changes::add);
+            failedChanges.stream().filter(change -> change.postId().equals(postId)).forEach(changes::add);
+            pendingChanges.stream().filter(change -> change.postId().equals(postId)).forEach(changes::add);
+        }
+        return changes;
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    @Scheduled(fixedDelayString = "${friendy.post.like.flush-interval-ms:1000}",
+            initialDelayString = "${friendy.post.like.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        final List<PostLikeChange> flushing = collectLatestChanges();
+        if (flushing.isEmpty()) {
+            return;
+        }
+        try {
+            applyChanges(flushing);
+        } finally {
+            synchronized (changesLock) {
+                inFlightChanges = List.of();
+            }
+        }
+    }
+
+    private void applyChanges(final List<PostLikeChange> flushing) {
+        for (int from = 0; from < flushing.size(); from += CHUNK_SIZE) {
+            final List<PostLikeChange> chunk = flushing.subList(from, Math.min(from + CHUNK_SIZE, flushing.size()));
+            final List<PostLikeChange> likes = chunk.stream().filter(PostLikeChange::liked).toList();
+            final List<PostLikeChange> unlikes = chunk.stream().filter(change -> !change.liked()).toList();
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (!likes.isEmpty()) {
+                        postLikeJdbcRepository.insertLikes(likes);
+                    }
+                    if (!unlikes.isEmpty()) {
+                        postLikeJdbcRepository.deleteLikes(unlikes);
+                    }
+                });
+            } catch (RuntimeException e) {
+                final List<PostLikeChange> unflushed = flushing.subList(from, flushing.size());
+                failedFlushes.increment();
+                log.warn("[PostLikeWriter] 좋아요 반영 실패, 다음 주기에 재시도 - 변경 수 : {}", unflushed.size(), e);
+                synchronized (changesLock) {
+                    failedChanges.addAll(unflushed);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * 실패했던 변경분을 새 변경분보다 먼저 두고 게시글/회원별 마지막 상태만 남긴다.
+     * 대기열에서 꺼낸 변경분은 같은 락 안에서 반영 중 목록으로 옮겨, 조회하는 쪽에서 빠지는 순간이 없게 한다.
+     */
+    private List<PostLikeChange> collectLatestChanges() {
+        synchronized (changesLock) {
+            final Map<LikeKey, PostLikeChange> latest = new LinkedHashMap<>();
+            failedChanges.forEach(change -> latest.put(new LikeKey(change.postId(), change.memberId()), change));
+            failedChanges.clear();
+
+            PostLikeChange change;
+            while ((change = pendingChanges.poll()) != null) {
+                latest.put(new LikeKey(change.postId(), change.memberId()), change);
+            }
+            inFlightChanges = List.copyOf(latest.values());
+            return new ArrayList<>(inFlightChanges);
+        }
+    }
+
+    private record LikeKey(Long postId, Long memberId) {
+    }
+
+}
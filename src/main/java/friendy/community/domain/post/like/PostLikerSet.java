@@ -0,0 +1,187 @@
+package friendy.community.domain.post.like;
+
+import friendy.community.domain.post.repository.PostLikeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 게시글별로 좋아요한 회원 ID 를 Redis 집합에 보관해, 중복 좋아요를 post_like 테이블 조회 없이 판별한다.
+ * 확인과 변경은 Lua 스크립트 한 번으로 처리하고, 집합이 없을 때만 post_like 테이블에서 한 번 적재한다.
+ * 같은 게시글을 동시에 적재하려는 요청은 노드 안에서 하나의 적재로 합친다.
+ * 좋아요가 없는 게시글도 적재 여부를 구분할 수 있도록 집합에는 회원 ID 가 아닌 표식을 하나 넣어 둔다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostLikerSet {
+
+    private static final String KEY_PREFIX = "post:likers:";
+    private static final String LOADED_MARKER = "loaded";
+    private static final int LOAD_CHUNK_SIZE = 1000;
+    private static final Duration LOADING_TTL = Duration.ofMinutes(1);
+    private static final RedisScript<Long> LIKER_SET_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/post_liker_set.lua"), Long.class);
+
+    public enum Result {
+        CHANGED, UNCHANGED, UNAVAILABLE
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    private final PostLikeRepository postLikeRepository;
+    private final PostLikeWriter postLikeWriter;
+
+    private final ConcurrentMap<Long, CompletableFuture<Void>> inFlightLoads = new ConcurrentHashMap<>();
+
+    @Value("${friendy.cache.redis.enabled:true}")
+    private boolean redisEnabled;
+
+    @Value("${friendy.post.like.liker-set-ttl:1d}")
+    private Duration ttl;
+
+    public Result add(final Long postId, final Long memberId) {
+        return apply(postId, memberId, "add");
+    }
+
+    public Result remove(final Long postId, final Long memberId) {
+        return apply(postId, memberId, "remove");
+    }
+
+    public void delete(final Collection<Long> postIds) {
+        if (!redisEnabled || postIds.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.delete(postIds.stream().map(this::key).toList());
+        } catch (DataAccessException e) {
+            log.warn("[PostLikerSet] 좋아요 회원 집합 삭제 실패 - 게시글 수 : {}", postIds.size());
+        }
+    }
+
+    /**
+     * 집합을 지워 다음 요청이 post_like 테이블에서 다시 적재하게 한다.
+     * Redis 를 쓰지 않으면 어긋날 집합이 없으므로 성공으로 본다.
+     */
+    public boolean invalidate(final Long postId) {
+        if (!redisEnabled) {
+            return true;
+        }
+        try {
+            redisTemplate.delete(key(postId));
+            return true;
+        } catch (DataAccessException e) {
+            log.warn("[PostLikerSet] 좋아요 회원 집합 무효화 실패 - 게시글 ID : {}", postId);
+            return false;
+        }
+    }
+
+    private Result apply(final Long postId, final Long memberId, final String operation) {
+        if (!redisEnabled) {
+            return Result.UNAVAILABLE;
+        }
+        try {
+            Long changed = execute(postId, memberId, operation);
+            if (changed != null && changed < 0) {
+                load(postId);
+                changed = execute(postId, memberId, operation);
+            }
+            if (changed == null || changed < 0) {
+                return Result.UNAVAILABLE;
+            }
+            return changed > 0 ? Result.CHANGED : Result.UNCHANGED;
+        } catch (DataAccessException e) {
+            log.warn("[PostLikerSet] Redis 좋아요 회원 집합 사용 실패, DB 로 대체 - 게시글 ID : {}", postId);
+            return Result.UNAVAILABLE;
+        }
+    }
+
+    private Long execute(final Long postId, final Long memberId, final String operation) {
+        return redisTemplate.execute(
+                LIKER_SET_SCRIPT,
+                List.of(key(postId)),
+                String.valueOf(memberId), operation, String.valueOf(ttl.toSeconds()));
+    }
+
+    private void load(final Long postId) {
+        final CompletableFuture<Void> loading = new CompletableFuture<>();
+        final CompletableFuture<Void> inFlightLoad = inFlightLoads.putIfAbsent(postId, loading);
+        if (inFlightLoad != null) {
+            await(inFlightLoad);
+            return;
+        }
+        try {
+            loadFromDatabase(postId);
+            loading.complete(null);
+        } catch (RuntimeException e) {
+            loading.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLoads.remove(postId, loading);
+        }
+    }
+
+    /**
+     * 테이블에 아직 커밋되지 않았을 수 있는 변경분을 먼저 읽은 뒤 테이블을 읽고, 변경분을 덮어써 합친다.
+     * 전체 변경분을 반영하지 않고 이 게시글의 변경분만 합치므로 적재가 다른 게시글의 쓰기를 기다리지 않는다.
+     * 임시 키에 나누어 적재한 뒤 집합이 없을 때만 이름을 바꿔 공개해, 적재 도중의 집합이 보이거나 먼저 적재된 집합을 덮어쓰지 않는다.
+     */
+    private void loadFromDatabase(final Long postId) {
+        final List<PostLikeChange> pendingChanges = postLikeWriter.getPendingChanges(postId);
+        final Set<String> memberIds = new LinkedHashSet<>();
+        postLikeRepository.findMemberIdsByPostId(postId).forEach(memberId -> memberIds.add(String.valueOf(memberId)));
+        for (PostLikeChange change : pendingChanges) {
+            if (change.liked()) {
+                memberIds.add(String.valueOf(change.memberId()));
+            } else {
+                memberIds.remove(String.valueOf(change.memberId()));
+            }
+        }
+
+        final String loadingKey = key(postId) + ":loading:" + UUID.randomUUID();
+        redisTemplate.opsForSet().add(loadingKey, LOADED_MARKER);
+        redisTemplate.expire(loadingKey, LOADING_TTL);
+        final List<String> members = List.copyOf(memberIds);
+        for (int from = 0; from < members.size(); from += LOAD_CHUNK_SIZE) {
+            redisTemplate.opsForSet().add(loadingKey,
+                    members.subList(from, Math.min(from + LOAD_CHUNK_SIZE, members.size())).toArray(String[]::new));
+        }
+
+        if (Boolean.TRUE.equals(redisTemplate.renameIfAbsent(loadingKey, key(postId)))) {
+            redisTemplate.expire(key(postId), ttl);
+            return;
+        }
+        redisTemplate.delete(loadingKey);
+    }
+
+    private void await(final CompletableFuture<Void> inFlightLoad) {
+        try {
+            inFlightLoad.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private String key(final Long postId) {
+        return KEY_PREFIX + postId;
+    }
+
+}
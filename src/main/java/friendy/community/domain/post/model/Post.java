@@ -12,6 +12,7 @@ import lombok.NoArgsConstructor;
 import org.hibernate.annotations.ColumnDefault;
 
 @Entity
+@Table(indexes = @Index(name = "idx_post_created_date_id", columnList = "createdDate, id"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -40,12 +41,17 @@ public class Post extends BaseEntity {
     @ColumnDefault("0")
     private Integer shareCount;
 
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Long viewCount;
+
     protected Post(final PostCreateRequest request, final Member member) {
         this.member = member;
         this.content = request.content();
         this.likeCount = 0;
         this.commentCount = 0;
         this.shareCount = 0;
+        this.viewCount = 0L;
     }
 
     public static Post of(final PostCreateRequest request, final Member member) {
@@ -54,5 +60,6 @@ public class Post extends BaseEntity {
 
     public void updatePost(final PostUpdateRequest postUpdateRequest) {
         this.content = postUpdateRequest.content();
+        markModified();
     }
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ import lombok.*;
 import java.io.Serializable;
 
 @Entity
+@Table(indexes = @Index(name = "idx_post_hashtag_hashtag_id_post_id", columnList = "hashtag_id, post_id"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EqualsAndHashCode(of = "id", callSuper = false)
@@ -0,0 +1,45 @@
+package friendy.community.domain.post.model;
+
+import friendy.community.domain.member.model.Member;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+@Entity
+@Table(name = "post_like")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EqualsAndHashCode(of = "id", callSuper = false)
+public class PostLike {
+
+    @Embeddable
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class PostLikeId implements Serializable {
+        private Long postId;
+        private Long memberId;
+    }
+
+    @EmbeddedId
+    private PostLikeId id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @MapsId("postId")
+    @JoinColumn(name = "post_id")
+    private Post post;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @MapsId("memberId")
+    @JoinColumn(name = "member_id")
+    private Member member;
+
+    public PostLike(Post post, Member member) {
+        this.id = new PostLikeId(post.getId(), member.getId());
+        this.post = post;
+        this.member = member;
+    }
+
+}
@@ -0,0 +1,55 @@
+package friendy.community.domain.post.repository;
+
+import friendy.community.domain.post.counter.PostCounterDelta;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 누적된 카운터 증감분을 JDBC 배치 UPDATE 한 번으로 반영한다.
+ * 엔티티를 읽지 않고 컬럼 값에 더하므로 다른 노드의 반영분과 덮어쓰지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostCounterJdbcRepository {
+
+    private static final String APPLY_DELTA_SQL = "UPDATE post SET "
+            + "like_count = GREATEST(like_count + ?, 0), "
+            + "share_count = GREATEST(share_count + ?, 0) "
+            + "WHERE id = ?";
+    private static final String ADD_COMMENT_COUNT_SQL = "UPDATE post SET comment_count = GREATEST(comment_count + ?, 0) WHERE id = ?";
+    private static final String APPLY_VIEW_COUNT_SQL = "UPDATE post SET view_count = GREATEST(view_count, ?) WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void applyDeltas(final List<PostCounterDelta> deltas) {
+        jdbcTemplate.batchUpdate(APPLY_DELTA_SQL, deltas, deltas.size(), (preparedStatement, delta) -> {
+            preparedStatement.setLong(1, delta.likeDelta());
+            preparedStatement.setLong(2, delta.shareDelta());
+            preparedStatement.setLong(3, delta.postId());
+        });
+    }
+
+    /**
+     * 댓글 수는 댓글 저장/삭제와 같은 트랜잭션에서 바로 더해, 댓글 행과 어긋나지 않게 한다.
+     */
+    public void addCommentCount(final Long postId, final long delta) {
+        jdbcTemplate.update(ADD_COMMENT_COUNT_SQL, delta, postId);
+    }
+
+    /**
+     * 근사 순 조회수는 줄어들지 않도록 기존 값보다 클 때만 덮어쓴다.
+     */
+    public void applyViewCounts(final Map<Long, Long> viewCounts) {
+        final List<Map.Entry<Long, Long>> entries = new ArrayList<>(viewCounts.entrySet());
+        jdbcTemplate.batchUpdate(APPLY_VIEW_COUNT_SQL, entries, entries.size(), (preparedStatement, entry) -> {
+            preparedStatement.setLong(1, entry.getValue());
+            preparedStatement.setLong(2, entry.getKey());
+        });
+    }
+
+}
@@ -0,0 +1,38 @@
+package friendy.community.domain.post.repository;
+
+import friendy.community.domain.post.like.PostLikeChange;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 좋아요 변경분을 JDBC 배치로 반영한다.
+ * 이미 반영된 좋아요나 삭제된 게시글의 좋아요는 건너뛰므로 같은 변경분을 다시 반영해도 결과가 같다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostLikeJdbcRepository {
+
+    private static final String INSERT_LIKE_SQL = "INSERT IGNORE INTO post_like (post_id, member_id) "
+            + "SELECT id, ? FROM post WHERE id = ?";
+    private static final String DELETE_LIKE_SQL = "DELETE FROM post_like WHERE post_id = ? AND member_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertLikes(final List<PostLikeChange> changes) {
+        jdbcTemplate.batchUpdate(INSERT_LIKE_SQL, changes, changes.size(), (preparedStatement, change) -> {
+            preparedStatement.setLong(1, change.memberId());
+            preparedStatement.setLong(2, change.postId());
+        });
+    }
+
+    public void deleteLikes(final List<PostLikeChange> changes) {
+        jdbcTemplate.batchUpdate(DELETE_LIKE_SQL, changes, changes.size(), (preparedStatement, change) -> {
+            preparedStatement.setLong(1, change.postId());
+            preparedStatement.setLong(2, change.memberId());
+        });
+    }
+
+}
@@ -0,0 +1,30 @@
+package friendy.community.domain.post.repository;
+
+import friendy.community.domain.post.model.PostLike;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PostLikeRepository extends JpaRepository<PostLike, PostLike.PostLikeId> {
+
+    @Query("SELECT pl.member.id FROM PostLike pl WHERE pl.post.id = :postId")
+    List<Long> findMemberIdsByPostId(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("DELETE FROM PostLike pl WHERE pl.post.id = :postId AND pl.member.id = :memberId")
+    int deleteByPostIdAndMemberId(@Param("postId") Long postId, @Param("memberId") Long memberId);
+
+    @Modifying
+    @Query("DELETE FROM PostLike pl WHERE pl.post.id = :postId")
+    int deleteAllByPostId(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("DELETE FROM PostLike pl WHERE pl.post.id IN :postIds")
+    int deleteAllByPostIdIn(@Param("postIds") Collection<Long> postIds);
+}
@@ -1,16 +1,27 @@
 package friendy.community.domain.post.repository;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import friendy.community.domain.hashtag.model.QHashtag;
 import friendy.community.domain.member.model.QMember;
+import friendy.community.domain.post.dto.request.PostCursor;
+import friendy.community.domain.post.dto.response.PostSummary;
 import friendy.community.domain.post.model.Post;
 import friendy.community.domain.post.model.QPost;
+import friendy.community.domain.post.model.QPostHashtag;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
@@ -28,19 +39,106 @@ public class PostQueryDSLRepository{
         );
     }
 
-    public Page<Post> findAllPosts(Pageable pageable) {
+    /**
+     * 전체 개수를 세지 않고 size + 1개를 조회해 다음 페이지 존재 여부만 판단한다.
+     */
+    public Slice<Post> findAllPosts(Pageable pageable) {
         List<Post> posts = queryFactory.selectFrom(QPost.post)
                 .leftJoin(QPost.post.member, QMember.member).fetchJoin()
-                .orderBy(QPost.post.createdDate.desc())
+                .orderBy(QPost.post.createdDate.desc(), QPost.post.id.desc())
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .limit(pageable.getPageSize() + 1L)
                 .fetch();
 
-        long total = queryFactory.select(QPost.post.count())
+        boolean hasNext = posts.size() > pageable.getPageSize();
+        List<Post> content = hasNext ? posts.subList(0, pageable.getPageSize()) : posts;
+
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    public long countAllPosts() {
+        Long total = queryFactory.select(QPost.post.count())
                 .from(QPost.post)
                 .fetchOne();
 
-        return new PageImpl<>(posts, pageable, total);
+        return total == null ? 0 : total;
+    }
+
+    /**
+     * (createdDate, id) 복합 인덱스를 따라 커서 이후의 게시글을 조회한다.
+     * 다음 페이지 존재 여부 확인을 위해 size + 1개까지 조회한다.
+     */
+    public List<Post> findPostsBeforeCursor(final PostCursor cursor, final int size) {
+        return queryFactory.selectFrom(QPost.post)
+                .leftJoin(QPost.post.member, QMember.member).fetchJoin()
+                .where(beforeCursor(cursor))
+                .orderBy(QPost.post.createdDate.desc(), QPost.post.id.desc())
+                .limit(size + 1L)
+                .fetch();
+    }
+
+    private BooleanExpression beforeCursor(final PostCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return QPost.post.createdDate.lt(cursor.createdDate())
+                .or(QPost.post.createdDate.eq(cursor.createdDate())
+                        .and(QPost.post.id.lt(cursor.id())));
+    }
+
+    /**
+     * (hashtag_id, post_id) 인덱스를 따라 해시태그가 달린 게시글을 최신순으로 조회한다.
+     * 다음 페이지 존재 여부 확인을 위해 size + 1개까지 조회한다.
+     */
+    public List<PostSummary> findPostSummariesByHashtag(final Long hashtagId, final Long cursorPostId, final int size) {
+        final QPostHashtag postHashtag = QPostHashtag.postHashtag;
+        return queryFactory.select(Projections.constructor(PostSummary.class,
+                        QPost.post.id,
+                        QPost.post.content,
+                        QPost.post.createdDate,
+                        QPost.post.likeCount,
+                        QPost.post.commentCount,
+                        QPost.post.shareCount,
+                        QPost.post.viewCount,
+                        QMember.member.id,
+                        QMember.member.nickname))
+                .from(postHashtag)
+                .join(postHashtag.post, QPost.post)
+                .join(QPost.post.member, QMember.member)
+                .where(postHashtag.hashtag.id.eq(hashtagId), postIdBefore(postHashtag, cursorPostId))
+                .orderBy(postHashtag.post.id.desc())
+                .limit(size + 1L)
+                .fetch();
+    }
+
+    private BooleanExpression postIdBefore(final QPostHashtag postHashtag, final Long cursorPostId) {
+        if (cursorPostId == null) {
+            return null;
+        }
+        return postHashtag.post.id.lt(cursorPostId);
+    }
+
+    /**
+     * 여러 게시글의 해시태그를 IN 쿼리 한 번으로 조회해 게시글 ID별로 묶는다.
+     */
+    public Map<Long, List<String>> findHashtagNamesByPostIds(final Collection<Long> postIds) {
+        final Map<Long, List<String>> hashtagNames = new HashMap<>();
+        if (postIds.isEmpty()) {
+            return hashtagNames;
+        }
+
+        final QPostHashtag postHashtag = QPostHashtag.postHashtag;
+        final List<Tuple> rows = queryFactory.select(postHashtag.post.id, QHashtag.hashtag.name)
+                .from(postHashtag)
+                .join(postHashtag.hashtag, QHashtag.hashtag)
+                .where(postHashtag.post.id.in(postIds))
+                .orderBy(QHashtag.hashtag.id.asc())
+                .fetch();
+        for (Tuple row : rows) {
+            hashtagNames.computeIfAbsent(row.get(postHashtag.post.id), postId -> new ArrayList<>())
+                    .add(row.get(QHashtag.hashtag.name));
+        }
+        return hashtagNames;
     }
 
 }
@@ -1,9 +1,26 @@
 package friendy.community.domain.post.repository;
 
 import friendy.community.domain.post.model.Post;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
+
+    @Query("SELECT p.id FROM Post p WHERE p.member.id = :memberId ORDER BY p.id")
+    List<Long> findIdsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    @Query("SELECT p.id FROM Post p WHERE p.member.id = :memberId AND p.id IN :postIds")
+    List<Long> findIdsByMemberIdAndIdIn(@Param("memberId") Long memberId, @Param("postIds") Collection<Long> postIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Post p WHERE p.id IN :postIds")
+    int deleteAllByIdIn(@Param("postIds") Collection<Long> postIds);
 }
@@ -0,0 +1,99 @@
+package friendy.community.domain.post.service;
+
+import friendy.community.domain.auth.principal.AuthMember;
+import friendy.community.domain.auth.principal.AuthMemberResolver;
+import friendy.community.domain.comment.repository.CommentRepository;
+import friendy.community.domain.hashtag.service.HashtagService;
+import friendy.community.domain.post.cache.FeedPageCache;
+import friendy.community.domain.post.cache.PostCache;
+import friendy.community.domain.post.counter.PostCounterBuffer;
+import friendy.community.domain.post.counter.PostTotalCounter;
+import friendy.community.domain.post.dto.response.DeletePostsResponse;
+import friendy.community.domain.post.like.PostLikerSet;
+import friendy.community.domain.post.repository.PostLikeRepository;
+import friendy.community.domain.post.repository.PostRepository;
+import friendy.community.domain.post.view.PostViewCounter;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 게시글을 엔티티로 읽지 않고 ID 묶음 단위로 일괄 삭제한다.
+ * 묶음마다 별도 트랜잭션으로 처리해 한 번에 잡는 락과 언두 로그의 크기를 제한한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PostBatchService {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final PostRepository postRepository;
+    private final HashtagService hashtagService;
+    private final PostLikeRepository postLikeRepository;
+    private final CommentRepository commentRepository;
+    private final PostTotalCounter postTotalCounter;
+    private final FeedPageCache feedPageCache;
+    private final PostCache postCache;
+    private final PostCounterBuffer postCounterBuffer;
+    private final PostLikerSet postLikerSet;
+    private final PostViewCounter postViewCounter;
+    private final AuthMemberResolver authMemberResolver;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 요청한 게시글 중 본인이 작성한 게시글만 삭제한다.
+     */
+    public DeletePostsResponse deletePosts(final HttpServletRequest httpServletRequest, final List<Long> postIds) {
+        final AuthMember authMember = authMemberResolver.resolve(httpServletRequest);
+        final List<Long> distinctPostIds = postIds.stream().distinct().toList();
+
+        long deletedCount = 0;
+        for (int from = 0; from < distinctPostIds.size(); from += CHUNK_SIZE) {
+            final List<Long> chunk = distinctPostIds.subList(from, Math.min(from + CHUNK_SIZE, distinctPostIds.size()));
+            deletedCount += transactionTemplate.execute(status ->
+                    deleteChunk(postRepository.findIdsByMemberIdAndIdIn(authMember.memberId(), chunk)));
+        }
+
+        return new DeletePostsResponse(deletedCount);
+    }
+
+    public DeletePostsResponse deleteAllPostsOfMember(final HttpServletRequest httpServletRequest) {
+        final AuthMember authMember = authMemberResolver.resolve(httpServletRequest);
+
+        long deletedCount = 0;
+        while (true) {
+            final int deleted = transactionTemplate.execute(status ->
+                    deleteChunk(postRepository.findIdsByMemberId(authMember.memberId(), PageRequest.of(0, CHUNK_SIZE))));
+            if (deleted == 0) {
+                break;
+            }
+            deletedCount += deleted;
+        }
+
+        return new DeletePostsResponse(deletedCount);
+    }
+
+    private int deleteChunk(final List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return 0;
+        }
+        hashtagService.deleteHashtags(postIds);
+        postLikeRepository.deleteAllByPostIdIn(postIds);
+        commentRepository.deleteAllByPostIdIn(postIds);
+        final int deleted = postRepository.deleteAllByIdIn(postIds);
+        postTotalCounter.decrement(deleted);
+        if (deleted > 0) {
+            postIds.forEach(postCounterBuffer::forget);
+            postLikerSet.delete(postIds);
+            postViewCounter.forget(postIds);
+            postCache.evict(postIds);
+            feedPageCache.invalidateAfterCommit();
+        }
+        return deleted;
+    }
+
+}
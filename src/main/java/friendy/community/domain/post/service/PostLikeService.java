@@ -0,0 +1,118 @@
+package friendy.community.domain.post.service;
+
+import friendy.community.domain.auth.principal.AuthMember;
+import friendy.community.domain.auth.principal.AuthMemberResolver;
+import friendy.community.domain.member.repository.MemberRepository;
+import friendy.community.domain.post.counter.PostCounterBuffer;
+import friendy.community.domain.post.counter.PostCounterType;
+import friendy.community.domain.post.like.PostLikeChange;
+import friendy.community.domain.post.like.PostLikeWriter;
+import friendy.community.domain.post.like.PostLikerSet;
+import friendy.community.domain.post.model.PostLike;
+import friendy.community.domain.post.repository.PostLikeRepository;
+import friendy.community.domain.post.repository.PostRepository;
+import friendy.community.global.exception.ErrorCode;
+import friendy.community.global.exception.FriendyException;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 좋아요 중복 여부는 게시글별 좋아요 회원 집합으로 판별하고, post_like 테이블과 좋아요 수는 비동기로 반영한다.
+ * 좋아요 회원 집합을 쓸 수 없을 때만 post_like 테이블에서 직접 확인하고 반영한다.
+ * 이때 집합과 테이블이 어긋나지 않도록 반영 전후로 집합을 지우고, 지울 수 없으면 반영하지 않고 503 으로 거절한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PostLikeService {
+
+    private final PostRepository postRepository;
+    private final MemberRepository memberRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final PostLikerSet postLikerSet;
+    private final PostLikeWriter postLikeWriter;
+    private final PostCounterBuffer postCounterBuffer;
+    private final AuthMemberResolver authMemberResolver;
+    private final TransactionTemplate transactionTemplate;
+
+    public void likePost(final HttpServletRequest httpServletRequest, final Long postId) {
+        final AuthMember authMember = authMemberResolver.resolve(httpServletRequest);
+        validatePostExistence(postId);
+
+        final boolean liked = switch (postLikerSet.add(postId, authMember.memberId())) {
+            case CHANGED -> {
+                postLikeWriter.enqueue(new PostLikeChange(postId, authMember.memberId(), true));
+                yield true;
+            }
+            case UNCHANGED -> false;
+            case UNAVAILABLE -> likeInDatabase(postId, authMember.memberId());
+        };
+        if (!liked) {
+            throw new FriendyException(ErrorCode.DUPLICATE_LIKE, "이미 좋아요한 게시글입니다.");
+        }
+        postCounterBuffer.increment(postId, PostCounterType.LIKE);
+    }
+
+    public void unlikePost(final HttpServletRequest httpServletRequest, final Long postId) {
+        final AuthMember authMember = authMemberResolver.resolve(httpServletRequest);
+        validatePostExistence(postId);
+
+        final boolean unliked = switch (postLikerSet.remove(postId, authMember.memberId())) {
+            case CHANGED -> {
+                postLikeWriter.enqueue(new PostLikeChange(postId, authMember.memberId(), false));
+                yield true;
+            }
+            case UNCHANGED -> false;
+            case UNAVAILABLE -> unlikeInDatabase(postId, authMember.memberId());
+        };
+        if (!unliked) {
+            throw new FriendyException(ErrorCode.RESOURCE_NOT_FOUND, "좋아요하지 않은 게시글입니다.");
+        }
+        postCounterBuffer.decrement(postId, PostCounterType.LIKE);
+    }
+
+    private boolean likeInDatabase(final Long postId, final Long memberId) {
+        invalidateLikerSet(postId);
+        try {
+            return transactionTemplate.execute(status -> {
+                if (postLikeRepository.existsById(new PostLike.PostLikeId(postId, memberId))) {
+                    return false;
+                }
+                postLikeRepository.saveAndFlush(new PostLike(
+                        postRepository.getReferenceById(postId), memberRepository.getReferenceById(memberId)));
+                return true;
+            });
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        } finally {
+            postLikerSet.invalidate(postId);
+        }
+    }
+
+    private boolean unlikeInDatabase(final Long postId, final Long memberId) {
+        invalidateLikerSet(postId);
+        try {
+            return transactionTemplate.execute(status -> postLikeRepository.deleteByPostIdAndMemberId(postId, memberId) > 0);
+        } finally {
+            postLikerSet.invalidate(postId);
+        }
+    }
+
+    /**
+     * 반영 전에 지워 두면 그 사이 적재된 집합이 남지 않도록 반영 후에도 한 번 더 지운다.
+     */
+    private void invalidateLikerSet(final Long postId) {
+        if (!postLikerSet.invalidate(postId)) {
+            throw new FriendyException(ErrorCode.SERVICE_UNAVAILABLE, "좋아요를 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    private void validatePostExistence(final Long postId) {
+        if (!postRepository.existsById(postId)) {
+            throw new FriendyException(ErrorCode.RESOURCE_NOT_FOUND, "존재하지 않는 게시글입니다.");
+        }
+    }
+
+}
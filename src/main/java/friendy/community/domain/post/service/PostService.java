@@ -1,47 +1,79 @@
 package friendy.community.domain.post.service;
 
-import friendy.community.domain.auth.jwt.JwtTokenExtractor;
-import friendy.community.domain.auth.jwt.JwtTokenProvider;
-import friendy.community.domain.auth.service.AuthService;
+import friendy.community.domain.auth.principal.AuthMember;
+import friendy.community.domain.auth.principal.AuthMemberResolver;
+import friendy.community.domain.comment.repository.CommentRepository;
 import friendy.community.domain.hashtag.service.HashtagService;
 import friendy.community.domain.member.model.Member;
+import friendy.community.domain.member.repository.MemberRepository;
+import friendy.community.domain.post.cache.FeedPageCache;
+import friendy.community.domain.post.cache.PostCache;
+import friendy.community.domain.post.counter.PostCounterBuffer;
+import friendy.community.domain.post.counter.PostTotalCounter;
 import friendy.community.domain.post.dto.request.PostCreateRequest;
+import friendy.community.domain.post.dto.request.PostCursor;
 import friendy.community.domain.post.dto.request.PostUpdateRequest;
 import friendy.community.domain.post.dto.response.FindPostResponse;
 import friendy.community.domain.post.dto.response.FindAllPostResponse;
+import friendy.community.domain.post.dto.response.PostSummary;
+import friendy.community.domain.post.dto.response.VersionedPostResponse;
+import friendy.community.domain.post.like.PostLikerSet;
 import friendy.community.domain.post.model.Post;
+import friendy.community.domain.post.repository.PostLikeRepository;
 import friendy.community.domain.post.repository.PostQueryDSLRepository;
 import friendy.community.domain.post.repository.PostRepository;
+import friendy.community.domain.post.view.PostViewCounter;
 import friendy.community.global.exception.ErrorCode;
 import friendy.community.global.exception.FriendyException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class PostService {
 
+    private static final int DEFAULT_PAGE_SIZE = 10;
+
     private final PostRepository postRepository;
     private final PostQueryDSLRepository postQueryDSLRepository;
-    private final JwtTokenExtractor jwtTokenExtractor;
-    private final JwtTokenProvider jwtTokenProvider;
-    private final AuthService authService;
+    private final MemberRepository memberRepository;
+    private final AuthMemberResolver authMemberResolver;
     private final HashtagService hashtagService;
+    private final PostTotalCounter postTotalCounter;
+    private final FeedPageCache feedPageCache;
+    private final PostCache postCache;
+    private final PostCounterBuffer postCounterBuffer;
+    private final PostLikeRepository postLikeRepository;
+    private final CommentRepository commentRepository;
+    private final PostLikerSet postLikerSet;
+    private final PostViewCounter postViewCounter;
 
     public long savePost(final PostCreateRequest postCreateRequest, final HttpServletRequest httpServletRequest) {
-        final Member member = getMemberFromRequest(httpServletRequest);
+        final AuthMember authMember = authMemberResolver.resolve(httpServletRequest);
+        final Member member = memberRepository.getReferenceById(authMember.memberId());
         final Post post = Post.of(postCreateRequest, member);
-        postRepository.save(post);
+        try {
+            postRepository.save(post);
+        } catch (DataIntegrityViolationException e) {
+            throw new FriendyException(ErrorCode.RESOURCE_NOT_FOUND, "존재하지 않는 회원입니다.");
+        }
 
         hashtagService.saveHashtags(post, postCreateRequest.hashtags());
+        postTotalCounter.increment();
+        feedPageCache.invalidateAfterCommit();
 
         return post.getId();
     }
@@ -51,44 +83,128 @@ public class PostService {
             final HttpServletRequest httpServletRequest,
             final Long postId
     ) {
-        final Member member = getMemberFromRequest(httpServletRequest);
+        final AuthMember authMember = authMemberResolver.resolve(httpServletRequest);
         final Post post = validatePostExistence(postId);
-        validatePostAuthor(member,post);
+        validatePostAuthor(authMember, post);
 
         post.updatePost(postUpdateRequest);
         postRepository.save(post);
 
         hashtagService.updateHashtags(post, postUpdateRequest.hashtags());
+        postCache.evict(List.of(postId));
+        feedPageCache.invalidateAfterCommit();
 
         return post.getId();
     }
 
     public void deletePost(final HttpServletRequest httpServletRequest, final Long postId) {
-        final Member member = getMemberFromRequest(httpServletRequest);
+        final AuthMember authMember = authMemberResolver.resolve(httpServletRequest);
         final Post post = validatePostExistence(postId);
-        validatePostAuthor(member,post);
+        validatePostAuthor(authMember, post);
 
         hashtagService.deleteHashtags(postId);
+        postLikeRepository.deleteAllByPostId(postId);
+        commentRepository.deleteAllByPostId(postId);
         postRepository.delete(post);
+        postTotalCounter.decrement(1);
+        postCounterBuffer.forget(postId);
+        postLikerSet.delete(List.of(postId));
+        postViewCounter.forget(List.of(postId));
+        postCache.evict(List.of(postId));
+        feedPageCache.invalidateAfterCommit();
+    }
+
+    /**
+     * 게시글을 조회하고 조회자를 순 조회수에 기록한다. 로그인한 회원은 회원 ID 로, 그 외에는 IP 로 구분한다.
+     * 수정 시각도 함께 캐싱되므로 캐시 적중 시 조건부 조회를 위한 DB 조회가 없다.
+     */
+    public VersionedPostResponse getVersionedPost(final Long postId, final HttpServletRequest httpServletRequest) {
+        final VersionedPostResponse versionedPost = getVersionedPost(postId);
+        recordView(postId, httpServletRequest);
+        return versionedPost;
+    }
+
+    public FindPostResponse getPost(final Long postId) {
+        return getVersionedPost(postId).post();
     }
 
-    public FindPostResponse getPost(final Long postId){
-        Post post = postQueryDSLRepository.findPostById(postId)
+    private VersionedPostResponse getVersionedPost(final Long postId) {
+        return postCache.get(postId, this::loadPost)
+                .withPendingCounts(postCounterBuffer.getPending(postId));
+    }
+
+    private VersionedPostResponse loadPost(final Long postId) {
+        final Post post = postQueryDSLRepository.findPostById(postId)
                 .orElseThrow(() -> new FriendyException(ErrorCode.RESOURCE_NOT_FOUND, "존재하지 않는 게시글입니다."));
 
-        return FindPostResponse.from(post);
+        final List<String> hashtags = postQueryDSLRepository.findHashtagNamesByPostIds(List.of(postId))
+                .getOrDefault(postId, List.of());
+        return new VersionedPostResponse(FindPostResponse.from(post, hashtags), post.getModifiedDate());
     }
 
     public FindAllPostResponse getAllPosts(Pageable pageable) {
-        Pageable defaultPageable = PageRequest.of(pageable.getPageNumber(), 10);
-        Page<Post> postPage = postQueryDSLRepository.findAllPosts(defaultPageable);
+        Pageable defaultPageable = PageRequest.of(pageable.getPageNumber(), DEFAULT_PAGE_SIZE);
+        Slice<Post> postSlice = postQueryDSLRepository.findAllPosts(defaultPageable);
+
+        validatePageNumber(postSlice);
+        List<FindPostResponse> findPostResponses = toFindPostResponses(postSlice.getContent());
+        String nextCursor = postSlice.hasNext() ? getNextCursor(postSlice.getContent()) : null;
+
+        return new FindAllPostResponse(findPostResponses, getApproximateTotalPages(postSlice), postSlice.hasNext(), nextCursor);
+    }
+
+    public FindAllPostResponse getAllPostsByCursor(final String cursor) {
+        final PostCursor postCursor = PostCursor.decode(cursor);
+        final List<Post> posts = postQueryDSLRepository.findPostsBeforeCursor(postCursor, DEFAULT_PAGE_SIZE);
+
+        final boolean hasNext = posts.size() > DEFAULT_PAGE_SIZE;
+        final List<Post> currentPosts = hasNext ? posts.subList(0, DEFAULT_PAGE_SIZE) : posts;
+        final String nextCursor = hasNext ? getNextCursor(currentPosts) : null;
 
-        validatePageNumber(defaultPageable.getPageNumber(), postPage);
-        List<FindPostResponse> findPostResponses = postPage.getContent().stream()
-                .map(FindPostResponse::from)
+        return new FindAllPostResponse(toFindPostResponses(currentPosts), null, hasNext, nextCursor);
+    }
+
+    public FindAllPostResponse getPostsByHashtag(final String hashtag, final String cursor) {
+        final Long cursorPostId = parseHashtagCursor(cursor);
+        final List<PostSummary> postSummaries = hashtagService.findHashtagId(hashtag)
+                .map(hashtagId -> postQueryDSLRepository.findPostSummariesByHashtag(hashtagId, cursorPostId, DEFAULT_PAGE_SIZE))
+                .orElse(List.of());
+
+        final boolean hasNext = postSummaries.size() > DEFAULT_PAGE_SIZE;
+        final List<PostSummary> currentPosts = hasNext ? postSummaries.subList(0, DEFAULT_PAGE_SIZE) : postSummaries;
+        final String nextCursor = hasNext ? String.valueOf(currentPosts.get(currentPosts.size() - 1).id()) : null;
+        final Map<Long, List<String>> hashtags = postQueryDSLRepository.findHashtagNamesByPostIds(
+                currentPosts.stream().map(PostSummary::id).toList());
+        final List<FindPostResponse> findPostResponses = currentPosts.stream()
+                .map(postSummary -> FindPostResponse.from(postSummary, hashtags.getOrDefault(postSummary.id(), List.of()))
+                        .withPendingCounts(postCounterBuffer.getPending(postSummary.id())))
                 .toList();
 
-        return new FindAllPostResponse(findPostResponses, postPage.getTotalPages());
+        return new FindAllPostResponse(findPostResponses, null, hasNext, nextCursor);
+    }
+
+    private void recordView(final Long postId, final HttpServletRequest httpServletRequest) {
+        if (httpServletRequest.getHeader(HttpHeaders.AUTHORIZATION) != null) {
+            try {
+                postViewCounter.recordMemberView(postId, authMemberResolver.resolve(httpServletRequest).memberId());
+                return;
+            } catch (FriendyException e) {
+                // 게시글 조회는 인증 없이도 되는 요청이므로, 만료되었거나 잘못된 토큰이어도 조회를 막지 않고 비로그인 조회로 센다.
+                log.debug("[PostService] 조회자 인증 실패, 비로그인 조회로 기록 - 게시글 ID : {}, 사유 : {}", postId, e.getMessage());
+            }
+        }
+        postViewCounter.recordAnonymousView(postId, httpServletRequest.getRemoteAddr());
+    }
+
+    private Long parseHashtagCursor(final String cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new FriendyException(ErrorCode.INVALID_REQUEST, "잘못된 커서입니다.");
+        }
     }
 
     private Post validatePostExistence(Long postId) {
@@ -96,22 +212,36 @@ public class PostService {
                 .orElseThrow(() -> new FriendyException(ErrorCode.RESOURCE_NOT_FOUND, "존재하지 않는 게시글입니다."));
     }
 
-    private void validatePostAuthor(Member member, Post post) {
-        if (!post.getMember().getId().equals(member.getId())) {
+    private void validatePostAuthor(AuthMember authMember, Post post) {
+        if (!post.getMember().getId().equals(authMember.memberId())) {
             throw new FriendyException(ErrorCode.FORBIDDEN_ACCESS, "게시글은 작성자 본인만 관리할 수 있습니다.");
         }
     }
 
-    private void validatePageNumber(int requestedPage, Page<?> page) {
-        if (requestedPage >= page.getTotalPages()) {
+    private void validatePageNumber(Slice<?> slice) {
+        if (!slice.hasContent()) {
             throw new FriendyException(ErrorCode.RESOURCE_NOT_FOUND, "요청한 페이지가 존재하지 않습니다.");
         }
     }
 
-    private Member getMemberFromRequest(HttpServletRequest httpServletRequest) {
-        final String accessToken = jwtTokenExtractor.extractAccessToken(httpServletRequest);
-        final String email = jwtTokenProvider.extractEmailFromAccessToken(accessToken);
-        return authService.getMemberByEmail(email);
+    private int getApproximateTotalPages(Slice<?> slice) {
+        final long approximateTotal = postTotalCounter.getApproximateTotal();
+        final int approximatePages = (int) ((approximateTotal + slice.getSize() - 1) / slice.getSize());
+        final int knownPages = slice.getNumber() + (slice.hasNext() ? 2 : 1);
+        return Math.max(approximatePages, knownPages);
+    }
+
+    private List<FindPostResponse> toFindPostResponses(List<Post> posts) {
+        final Map<Long, List<String>> hashtags = postQueryDSLRepository.findHashtagNamesByPostIds(
+                posts.stream().map(Post::getId).toList());
+        return posts.stream()
+                .map(post -> FindPostResponse.from(post, hashtags.getOrDefault(post.getId(), List.of()))
+                        .withPendingCounts(postCounterBuffer.getPending(post.getId())))
+                .toList();
+    }
+
+    private String getNextCursor(List<Post> posts) {
+        return PostCursor.from(posts.get(posts.size() - 1)).encode();
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,200 @@
+package friendy.community.domain.post.view;
+
+import friendy.community.domain.post.repository.PostCounterJdbcRepository;
+import friendy.community.global.exception.ErrorCode;
+import friendy.community.global.exception.FriendyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 게시글 조회를 게시글별 Redis HyperLogLog 에 모아 근사 순 조회수를 센다.
+ * 조회 요청은 큐에 넣기만 하고, 주기적으로 게시글별로 묶어 PFADD 하므로 응답 경로에서 Redis 를 기다리지 않는다.
+ * 조회된 게시글 ID 는 공유 집합에 남겨 두고, 별도 주기에 어느 노드든 꺼내 가 PFCOUNT 값을 post.view_count 에 반영한다.
+ * 근사값이므로 큐가 가득 차거나 Redis 를 쓸 수 없을 때의 조회는 버린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostViewCounter {
+
+    private static final String KEY_PREFIX = "post:views:";
+    private static final String VIEWED_POSTS_KEY = "post:views:dirty";
+    private static final int FOLD_CHUNK_SIZE = 500;
+    private static final String IP_HASH_ALGORITHM = "HmacSHA256";
+
+    private final StringRedisTemplate redisTemplate;
+    private final PostCounterJdbcRepository postCounterJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${friendy.cache.redis.enabled:true}")
+    private boolean redisEnabled;
+
+    @Value("${friendy.post.view.buffer-capacity:100000}")
+    private int bufferCapacity;
+
+    @Value("${friendy.post.view.ip-hash-secret}")
+    private String ipHashSecret;
+
+    private BlockingQueue<PostView> pendingViews;
+    private Counter droppedViews;
+    private Mac ipHashPrototype;
+
+    @PostConstruct
+    void initialize() {
+        ipHashPrototype = createIpHashMac();
+        pendingViews = new ArrayBlockingQueue<>(bufferCapacity);
+        Gauge.builder("post.view.pending", pendingViews, Collection::size)
+                .description("HyperLogLog 반영을 기다리는 조회 수")
+                .register(meterRegistry);
+        droppedViews = meterRegistry.counter("post.view.dropped");
+    }
+
+    public void recordMemberView(final Long postId, final Long memberId) {
+        record(postId, "member:" + memberId);
+    }
+
+    /**
+     * 비로그인 조회는 IP 를 그대로 저장하지 않고 서버 비밀 키로 HMAC 해서 센다.
+     * IPv4 주소 공간은 작아 키 없는 해시는 전수 대입으로 쉽게 되돌릴 수 있기 때문이다.
+     */
+    public void recordAnonymousView(final Long postId, final String clientIp) {
+        if (!redisEnabled) {
+            return;
+        }
+        final byte[] hashed = newIpHashMac().doFinal(clientIp.getBytes(StandardCharsets.UTF_8));
+        record(postId, "ip:" + Base64.getEncoder().encodeToString(hashed));
+    }
+
+    private void record(final Long postId, final String viewerKey) {
+        if (!redisEnabled) {
+            return;
+        }
+        if (!pendingViews.offer(new PostView(postId, viewerKey))) {
+            droppedViews.increment();
+        }
+    }
+
+    public void forget(final Collection<Long> postIds) {
+        if (!redisEnabled || postIds.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.delete(postIds.stream().map(this::key).toList());
+        } catch (DataAccessException e) {
+            log.warn("[PostViewCounter] 조회수 HyperLogLog 삭제 실패 - 게시글 수 : {}", postIds.size());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${friendy.post.view.flush-interval-ms:1000}",
+            initialDelayString = "${friendy.post.view.flush-interval-ms:1000}")
+    public void flush() {
+        final List<PostView> views = new ArrayList<>();
+        pendingViews.drainTo(views);
+        if (views.isEmpty()) {
+            return;
+        }
+
+        final Map<Long, Set<String>> viewersByPostId = new LinkedHashMap<>();
+        views.forEach(view -> viewersByPostId.computeIfAbsent(view.postId(), postId -> new LinkedHashSet<>()).add(view.viewerKey()));
+        try {
+            viewersByPostId.forEach((postId, viewers) ->
+                    redisTemplate.opsForHyperLogLog().add(key(postId), viewers.toArray(String[]::new)));
+            redisTemplate.opsForSet().add(VIEWED_POSTS_KEY,
+                    viewersByPostId.keySet().stream().map(String::valueOf).toArray(String[]::new));
+        } catch (DataAccessException e) {
+            droppedViews.increment(views.size());
+            log.warn("[PostViewCounter] 조회 기록 실패 - 조회 수 : {}", views.size());
+        }
+    }
+
+    /**
+     * 조회된 게시글 ID 를 나누어 꺼내 근사 순 조회수를 반영한다. 반영에 실패하면 꺼낸 ID 를 되돌려 둔다.
+     * 조회수는 근사값이므로 반영 후 게시글 캐시는 비우지 않고 만료를 기다린다.
+     */
+    @Scheduled(fixedDelayString = "${friendy.post.view.fold-interval-ms:60000}",
+            initialDelayString = "${friendy.post.view.fold-interval-ms:60000}")
+    public void fold() {
+        if (!redisEnabled) {
+            return;
+        }
+        try {
+            while (true) {
+                final List<String> postIds = redisTemplate.opsForSet().pop(VIEWED_POSTS_KEY, FOLD_CHUNK_SIZE);
+                if (postIds == null || postIds.isEmpty() || !applyViewCounts(postIds)) {
+                    return;
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("[PostViewCounter] 조회된 게시글 조회 실패, 다음 주기에 재시도");
+        }
+    }
+
+    private boolean applyViewCounts(final List<String> postIds) {
+        final Map<Long, Long> viewCounts = new HashMap<>();
+        try {
+            postIds.forEach(postId -> viewCounts.put(Long.valueOf(postId), redisTemplate.opsForHyperLogLog().size(key(postId))));
+            transactionTemplate.executeWithoutResult(status -> postCounterJdbcRepository.applyViewCounts(viewCounts));
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("[PostViewCounter] 조회수 반영 실패, 다음 주기에 재시도 - 게시글 수 : {}", postIds.size(), e);
+            redisTemplate.opsForSet().add(VIEWED_POSTS_KEY, postIds.toArray(String[]::new));
+            return false;
+        }
+    }
+
+    /**
+     * Mac 은 스레드 안전하지 않으므로 키를 설정해 둔 원본을 호출마다 복제해 쓴다.
+     */
+    private Mac newIpHashMac() {
+        try {
+            return (Mac) ipHashPrototype.clone();
+        } catch (CloneNotSupportedException e) {
+            return createIpHashMac();
+        }
+    }
+
+    private Mac createIpHashMac() {
+        try {
+            final Mac mac = Mac.getInstance(IP_HASH_ALGORITHM);
+            mac.init(new SecretKeySpec(ipHashSecret.getBytes(StandardCharsets.UTF_8), IP_HASH_ALGORITHM));
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new FriendyException(ErrorCode.INTERNAL_SERVER_ERROR, "암호화 알고리즘이 잘못 명시되었습니다.");
+        }
+    }
+
+    private String key(final Object postId) {
+        return KEY_PREFIX + postId;
+    }
+
+    private record PostView(Long postId, String viewerKey) {
+    }
+
+}
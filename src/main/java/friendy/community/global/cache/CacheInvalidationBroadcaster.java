@@ -0,0 +1,35 @@
+package friendy.community.global.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis pub/sub 으로 캐시 무효화 메시지를 모든 노드에 전파한다.
+ * Redis 장애 시에도 요청은 실패시키지 않고, 각 노드의 로컬 TTL 로 수렴한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationBroadcaster {
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${friendy.cache.redis.enabled:true}")
+    private boolean redisEnabled;
+
+    public void broadcast(final String channel, final String message) {
+        if (!redisEnabled) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(channel, message);
+        } catch (DataAccessException e) {
+            log.warn("[CacheInvalidation] 무효화 메시지 발행 실패 - 채널 : {}, 메시지 : {}", channel, message);
+        }
+    }
+
+}
@@ -0,0 +1,12 @@
+package friendy.community.global.cache;
+
+/**
+ * 다른 노드가 발행한 캐시 무효화 메시지를 수신한다.
+ */
+public interface CacheInvalidationListener {
+
+    String channel();
+
+    void onInvalidation(String message);
+
+}
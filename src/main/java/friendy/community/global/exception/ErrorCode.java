@@ -13,13 +13,17 @@ public enum ErrorCode {
     RESOURCE_NOT_FOUND(1201, HttpStatus.NOT_FOUND),
     DUPLICATE_EMAIL(1202, HttpStatus.CONFLICT),
     DUPLICATE_NICKNAME(1203, HttpStatus.CONFLICT),
+    DUPLICATE_LIKE(1204, HttpStatus.CONFLICT),
 
     UNAUTHORIZED_USER(1301, HttpStatus.UNAUTHORIZED),
     UNAUTHORIZED_EMAIL(1302, HttpStatus.UNAUTHORIZED),
     UNAUTHORIZED_PASSWORD(1303, HttpStatus.UNAUTHORIZED),
     FORBIDDEN_ACCESS(1304, HttpStatus.FORBIDDEN),
 
-    INTERNAL_SERVER_ERROR(2000, HttpStatus.INTERNAL_SERVER_ERROR);
+    TOO_MANY_REQUESTS(1401, HttpStatus.TOO_MANY_REQUESTS),
+
+    INTERNAL_SERVER_ERROR(2000, HttpStatus.INTERNAL_SERVER_ERROR),
+    SERVICE_UNAVAILABLE(2001, HttpStatus.SERVICE_UNAVAILABLE);
 
     private final int code;
     private final HttpStatus httpStatus;
@@ -1,5 +1,6 @@
 package friendy.community.global.exception;
 
+import friendy.community.global.ratelimit.RateLimitExceededException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
 import org.springframework.http.HttpHeaders;
@@ -28,6 +29,18 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
                 .body(friendyException.toProblemDetail());
     }
 
+    /**
+     * 폭주 상황에서 호출되므로 경고 로그를 남기지 않고 Retry-After 헤더만 붙여 바로 응답한다.
+     */
+    @ExceptionHandler
+    public ResponseEntity<ProblemDetail> handleRateLimitExceededException(RateLimitExceededException exception) {
+        log.debug("[RateLimitExceededException] {}", exception.getMessage());
+
+        return ResponseEntity.status(exception.getErrorCode().getHttpStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(exception.getRetryAfterSeconds()))
+                .body(exception.toProblemDetail());
+    }
+
     @Override
     protected ResponseEntity<Object> handleMethodArgumentNotValid(
             MethodArgumentNotValidException exception, HttpHeaders headers, HttpStatusCode status, WebRequest request
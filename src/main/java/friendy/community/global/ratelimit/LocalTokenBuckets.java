@@ -0,0 +1,81 @@
+package friendy.community.global.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Redis 를 쓸 수 없을 때 사용하는 노드별 토큰 버킷. 오래 쓰이지 않은 버킷은 만료시켜 메모리를 제한한다.
+ */
+class LocalTokenBuckets {
+
+    private static final long MAXIMUM_SIZE = 100_000;
+
+    private final Cache<String, Bucket> buckets = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterAccess(Duration.ofMinutes(30))
+            .build();
+
+    /**
+     * 모든 버킷에서 토큰을 하나씩 가져온다. 하나라도 부족하면 이미 가져온 토큰을 돌려놓고 재시도까지 남은 밀리초를 반환한다.
+     */
+    long tryAcquire(final List<BucketSpec> specs, final long nowMillis) {
+        long retryAfterMillis = 0;
+        final Bucket[] acquired = new Bucket[specs.size()];
+        for (int i = 0; i < specs.size(); i++) {
+            final BucketSpec spec = specs.get(i);
+            final Bucket bucket = buckets.get(spec.key(), key -> new Bucket(spec.capacity(), nowMillis));
+            final long waitMillis = bucket.tryAcquire(spec, nowMillis);
+            if (waitMillis > 0) {
+                retryAfterMillis = Math.max(retryAfterMillis, waitMillis);
+            } else {
+                acquired[i] = bucket;
+            }
+        }
+        if (retryAfterMillis > 0) {
+            for (Bucket bucket : acquired) {
+                if (bucket != null) {
+                    bucket.release();
+                }
+            }
+        }
+        return retryAfterMillis;
+    }
+
+    record BucketSpec(String key, int capacity, long refillIntervalMillis) {
+    }
+
+    private static final class Bucket {
+
+        private long tokens;
+        private long refilledAt;
+
+        private Bucket(final long tokens, final long refilledAt) {
+            this.tokens = tokens;
+            this.refilledAt = refilledAt;
+        }
+
+        private synchronized long tryAcquire(final BucketSpec spec, final long nowMillis) {
+            final long refills = (nowMillis - refilledAt) / spec.refillIntervalMillis();
+            if (refills > 0) {
+                tokens = Math.min(spec.capacity(), tokens + refills);
+                refilledAt += refills * spec.refillIntervalMillis();
+            }
+            if (tokens >= spec.capacity()) {
+                refilledAt = nowMillis;
+            }
+            if (tokens < 1) {
+                return spec.refillIntervalMillis() - (nowMillis - refilledAt);
+            }
+            tokens--;
+            return 0;
+        }
+
+        private synchronized void release() {
+            tokens++;
+        }
+    }
+
+}
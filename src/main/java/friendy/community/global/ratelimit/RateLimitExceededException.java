@@ -0,0 +1,17 @@
+package friendy.community.global.ratelimit;
+
+import friendy.community.global.exception.ErrorCode;
+import friendy.community.global.exception.FriendyException;
+import lombok.Getter;
+
+@Getter
+public class RateLimitExceededException extends FriendyException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(final long retryAfterSeconds) {
+        super(ErrorCode.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+}
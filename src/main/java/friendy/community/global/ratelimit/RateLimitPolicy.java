@@ -0,0 +1,24 @@
+package friendy.community.global.ratelimit;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 이메일별, IP별 토큰 버킷 설정. 버킷은 최대 capacity 개의 토큰을 가지며 refillInterval 마다 하나씩 채워진다.
+ */
+@Getter
+@AllArgsConstructor
+public enum RateLimitPolicy {
+
+    EMAIL_SEND("email-send", 3, Duration.ofSeconds(60), 20, Duration.ofSeconds(6)),
+    EMAIL_VERIFY("email-verify", 10, Duration.ofSeconds(30), 60, Duration.ofSeconds(2)),
+    LOGIN("login", 10, Duration.ofSeconds(30), 60, Duration.ofSeconds(2));
+
+    private final String name;
+    private final int emailCapacity;
+    private final Duration emailRefillInterval;
+    private final int ipCapacity;
+    private final Duration ipRefillInterval;
+}
@@ -0,0 +1,92 @@
+package friendy.community.global.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 이메일별, IP별 토큰 버킷으로 요청 빈도를 제한한다.
+ * 두 버킷은 Lua 스크립트 한 번으로 원자적으로 확인/차감해 요청당 Redis 왕복은 한 번이다.
+ * Redis 를 쓸 수 없으면 노드별 버킷으로 대신 제한한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimiter {
+
+    private static final String KEY_PREFIX = "ratelimit:";
+    private static final RedisScript<Long> TOKEN_BUCKET_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/token_bucket.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final LocalTokenBuckets localTokenBuckets = new LocalTokenBuckets();
+
+    @Value("${friendy.cache.redis.enabled:true}")
+    private boolean redisEnabled;
+
+    private Counter rejectedRequests;
+
+    @PostConstruct
+    void initialize() {
+        rejectedRequests = meterRegistry.counter("ratelimit.rejected");
+    }
+
+    public void check(final RateLimitPolicy policy, final String email, final String clientIp) {
+        final List<LocalTokenBuckets.BucketSpec> specs = List.of(
+                new LocalTokenBuckets.BucketSpec(
+                        KEY_PREFIX + policy.getName() + ":email:" + email.toLowerCase(Locale.ROOT),
+                        policy.getEmailCapacity(),
+                        policy.getEmailRefillInterval().toMillis()),
+                new LocalTokenBuckets.BucketSpec(
+                        KEY_PREFIX + policy.getName() + ":ip:" + clientIp,
+                        policy.getIpCapacity(),
+                        policy.getIpRefillInterval().toMillis())
+        );
+
+        final long retryAfterMillis = tryAcquire(specs);
+        if (retryAfterMillis > 0) {
+            rejectedRequests.increment();
+            throw new RateLimitExceededException(Math.max(1, (retryAfterMillis + 999) / 1000));
+        }
+    }
+
+    private long tryAcquire(final List<LocalTokenBuckets.BucketSpec> specs) {
+        if (redisEnabled) {
+            try {
+                final Long retryAfterMillis = redisTemplate.execute(
+                        TOKEN_BUCKET_SCRIPT,
+                        specs.stream().map(LocalTokenBuckets.BucketSpec::key).toList(),
+                        toScriptArgs(specs));
+                if (retryAfterMillis != null) {
+                    return retryAfterMillis;
+                }
+            } catch (DataAccessException e) {
+                log.warn("[RateLimiter] Redis 토큰 버킷 조회 실패, 로컬 버킷으로 대체");
+            }
+        }
+        return localTokenBuckets.tryAcquire(specs, System.currentTimeMillis());
+    }
+
+    private Object[] toScriptArgs(final List<LocalTokenBuckets.BucketSpec> specs) {
+        final Object[] args = new Object[specs.size() * 2];
+        for (int i = 0; i < specs.size(); i++) {
+            args[i * 2] = String.valueOf(specs.get(i).capacity());
+            args[i * 2 + 1] = String.valueOf(specs.get(i).refillIntervalMillis());
+        }
+        return args;
+    }
+
+}
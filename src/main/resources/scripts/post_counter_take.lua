@@ -0,0 +1,9 @@
+-- DB 반영에 실패해 Redis 에 넘겨 둔 게시글 카운터 증감분을 모두 꺼내고 해시를 지운다.
+-- 읽기와 삭제를 한 번에 처리해 여러 노드가 동시에 꺼내도 같은 증감분을 두 번 반영하지 않는다.
+-- KEYS[1] : 증감분 해시 키 (필드 '<게시글 ID>:like' 또는 '<게시글 ID>:share')
+-- 반환값  : 필드와 값이 번갈아 놓인 목록, 해시가 없으면 빈 목록
+local entries = redis.call('HGETALL', KEYS[1])
+if #entries > 0 then
+    redis.call('DEL', KEYS[1])
+end
+return entries
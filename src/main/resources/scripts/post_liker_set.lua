@@ -0,0 +1,19 @@
+-- 게시글의 좋아요 회원 집합에 회원을 추가하거나 제거한다.
+-- 집합이 아직 적재되지 않았으면 아무것도 바꾸지 않고 -1 을 반환해 호출자가 DB 에서 적재하게 한다.
+-- KEYS[1] : 게시글의 좋아요 회원 집합 키
+-- ARGV[1] : 회원 ID
+-- ARGV[2] : 'add' 또는 'remove'
+-- ARGV[3] : 집합 만료 시간(초)
+-- 반환값  : 1 이면 변경됨, 0 이면 이미 같은 상태, -1 이면 집합이 적재되지 않음
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return -1
+end
+
+local changed
+if ARGV[2] == 'add' then
+    changed = redis.call('SADD', KEYS[1], ARGV[1])
+else
+    changed = redis.call('SREM', KEYS[1], ARGV[1])
+end
+redis.call('EXPIRE', KEYS[1], ARGV[3])
+return changed
@@ -0,0 +1,45 @@
+-- 여러 토큰 버킷을 원자적으로 확인하고, 모두 토큰이 있을 때만 하나씩 차감한다.
+-- KEYS[i]       : 버킷 키
+-- ARGV[2i - 1]  : 버킷 최대 토큰 수
+-- ARGV[2i]      : 토큰 하나가 채워지는 간격(ms)
+-- 반환값        : 0 이면 허용, 양수면 재시도까지 남은 시간(ms)
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local buckets = {}
+local retry_after = 0
+for i, key in ipairs(KEYS) do
+    local capacity = tonumber(ARGV[i * 2 - 1])
+    local interval = tonumber(ARGV[i * 2])
+    local state = redis.call('HMGET', key, 'tokens', 'refilled_at')
+    local tokens = tonumber(state[1])
+    local refilled_at = tonumber(state[2])
+    if tokens == nil then
+        tokens = capacity
+        refilled_at = now
+    end
+
+    local refills = math.floor((now - refilled_at) / interval)
+    if refills > 0 then
+        tokens = math.min(capacity, tokens + refills)
+        refilled_at = refilled_at + refills * interval
+    end
+    if tokens >= capacity then
+        refilled_at = now
+    end
+    if tokens < 1 then
+        retry_after = math.max(retry_after, interval - (now - refilled_at))
+    end
+    buckets[i] = { tokens, refilled_at, capacity * interval }
+end
+
+if retry_after > 0 then
+    return retry_after
+end
+
+for i, key in ipairs(KEYS) do
+    local bucket = buckets[i]
+    redis.call('HSET', key, 'tokens', bucket[1] - 1, 'refilled_at', bucket[2])
+    redis.call('PEXPIRE', key, bucket[3])
+end
+return 0
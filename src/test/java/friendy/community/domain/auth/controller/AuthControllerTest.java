@@ -12,6 +12,9 @@ import friendy.community.domain.member.model.Member;
 import friendy.community.domain.member.repository.MemberRepository;
 import friendy.community.global.exception.ErrorCode;
 import friendy.community.global.exception.FriendyException;
+import friendy.community.global.ratelimit.RateLimitExceededException;
+import friendy.community.global.ratelimit.RateLimitPolicy;
+import friendy.community.global.ratelimit.RateLimiter;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -28,7 +31,11 @@ import org.springframework.test.web.servlet.MockMvc;
 import static friendy.community.domain.auth.fixtures.TokenFixtures.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -53,6 +60,9 @@ class AuthControllerTest {
     @MockitoBean
     private JwtTokenProvider jwtTokenProvider;
 
+    @MockitoBean
+    private RateLimiter rateLimiter;
+
     private final ObjectMapper mapper = new ObjectMapper();
 
     @Test
@@ -74,6 +84,24 @@ class AuthControllerTest {
                 .andExpect(header().string("Authorization-Refresh", "Bearer refreshToken"));
     }
 
+    @Test
+    @DisplayName("로그인 요청 빈도를 초과하면 429 TOO MANY REQUESTS와 Retry-After 헤더가 반환된다")
+    void loginOverRateLimitReturns429() throws Exception {
+        // Given
+        LoginRequest loginRequest = new LoginRequest("example@friendy.com", "password123!");
+        doThrow(new RateLimitExceededException(30))
+                .when(rateLimiter).check(eq(RateLimitPolicy.LOGIN), eq("example@friendy.com"), anyString());
+
+        // When & Then
+        mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(loginRequest)))
+                .andDo(print())
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "30"));
+        verify(authService, never()).login(any(LoginRequest.class));
+    }
+
     @Test
     @DisplayName("존재하지 않는 이메일로 로그인 시 401 UNAUTHORIZED 반환")
     void loginWithNonExistentEmailReturns401() throws Exception {
@@ -35,7 +35,7 @@ class JwtTokenProviderTest {
         String email = "example@friendy.com";
 
         // when
-        String accessToken = jwtTokenProvider.generateAccessToken(email);
+        String accessToken = jwtTokenProvider.generateAccessToken(1L, email);
 
         // then
         assertThat(accessToken).isNotNull();
@@ -46,7 +46,7 @@ class JwtTokenProviderTest {
     void extractEmailFromAccessTokenSuccessfully() {
         // given
         String email = "example@friendy.com";
-        String accessToken = jwtTokenProvider.generateAccessToken(email);
+        String accessToken = jwtTokenProvider.generateAccessToken(1L, email);
 
         // when
         String extractedEmail = jwtTokenProvider.extractEmailFromAccessToken(accessToken);
@@ -55,6 +55,21 @@ class JwtTokenProviderTest {
         assertThat(extractedEmail).isEqualTo(email);
     }
 
+    @Test
+    @DisplayName("회원 ID를 담아 발급한 엑세스 토큰에서 회원 ID와 이메일을 함께 추출한다")
+    void verifyAccessTokenWithMemberIdSuccessfully() {
+        // given
+        String email = "example@friendy.com";
+        String accessToken = jwtTokenProvider.generateAccessToken(1L, email);
+
+        // when
+        VerifiedAccessToken verifiedToken = jwtTokenProvider.verifyAccessToken(accessToken);
+
+        // then
+        assertThat(verifiedToken.memberId()).isEqualTo(1L);
+        assertThat(verifiedToken.email()).isEqualTo(email);
+    }
+
     @Test
     @DisplayName("잘못된 형식의 엑세스 토큰에서 이메일 추출 시 예외를 발생시킨다")
     void throwExceptionForMalformedAccessTokenEmailExtraction() {
@@ -0,0 +1,72 @@
+package friendy.community.domain.auth.jwt;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final Ticker fakeTicker = nanos::get;
+    private final VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(100, fakeTicker);
+
+    @Test
+    @DisplayName("검증된 토큰은 만료 전까지 캐시에서 조회된다")
+    void cachedTokenIsReturnedBeforeExpiration() {
+        // Given
+        VerifiedAccessToken verifiedToken = new VerifiedAccessToken(1L, "example@friendy.com", Instant.now().plus(Duration.ofMinutes(10)));
+        verifiedTokenCache.put("token", verifiedToken);
+
+        // When
+        VerifiedAccessToken cachedToken = verifiedTokenCache.get("token");
+
+        // Then
+        assertThat(cachedToken).isEqualTo(verifiedToken);
+    }
+
+    @Test
+    @DisplayName("토큰 만료 시각이 지나면 캐시에서 제거된다")
+    void cachedTokenExpiresWithToken() {
+        // Given
+        VerifiedAccessToken verifiedToken = new VerifiedAccessToken(1L, "example@friendy.com", Instant.now().plus(Duration.ofMinutes(10)));
+        verifiedTokenCache.put("token", verifiedToken);
+
+        // When
+        nanos.addAndGet(Duration.ofMinutes(11).toNanos());
+
+        // Then
+        assertThat(verifiedTokenCache.get("token")).isNull();
+    }
+
+    @Test
+    @DisplayName("이미 만료된 토큰은 캐싱하지 않는다")
+    void expiredTokenIsNotCached() {
+        // Given
+        VerifiedAccessToken expiredToken = new VerifiedAccessToken(1L, "example@friendy.com", Instant.now().minusSeconds(1));
+
+        // When
+        verifiedTokenCache.put("token", expiredToken);
+
+        // Then
+        assertThat(verifiedTokenCache.get("token")).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 토큰으로는 캐시된 검증 결과를 조회할 수 없다")
+    void differentTokenMisses() {
+        // Given
+        verifiedTokenCache.put("token", new VerifiedAccessToken(1L, "example@friendy.com", Instant.now().plus(Duration.ofMinutes(10))));
+
+        // When
+        VerifiedAccessToken cachedToken = verifiedTokenCache.get("other-token");
+
+        // Then
+        assertThat(cachedToken).isNull();
+    }
+}
@@ -0,0 +1,79 @@
+package friendy.community.domain.auth.principal;
+
+import friendy.community.domain.auth.jwt.JwtTokenExtractor;
+import friendy.community.domain.auth.jwt.JwtTokenProvider;
+import friendy.community.domain.auth.jwt.VerifiedAccessToken;
+import friendy.community.domain.auth.service.AuthService;
+import friendy.community.domain.member.cache.CachedMember;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class AuthMemberResolverTest {
+
+    private final JwtTokenExtractor jwtTokenExtractor = mock(JwtTokenExtractor.class);
+    private final JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
+    private final AuthService authService = mock(AuthService.class);
+    private final AuthMemberResolver authMemberResolver = new AuthMemberResolver(jwtTokenExtractor, jwtTokenProvider, authService);
+
+    @Test
+    @DisplayName("토큰에 회원 ID가 있으면 회원 조회 없이 인증 정보를 만든다")
+    void resolveWithoutMemberLookup() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        when(jwtTokenExtractor.extractAccessToken(any())).thenReturn("token");
+        when(jwtTokenProvider.verifyAccessToken("token"))
+                .thenReturn(new VerifiedAccessToken(1L, "example@friendy.com", Instant.MAX));
+
+        // When
+        AuthMember authMember = authMemberResolver.resolve(request);
+
+        // Then
+        assertThat(authMember).isEqualTo(new AuthMember(1L, "example@friendy.com"));
+        verify(authService, never()).getCachedMemberByEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("같은 요청에서는 토큰을 한 번만 검증한다")
+    void resolveOncePerRequest() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        when(jwtTokenExtractor.extractAccessToken(any())).thenReturn("token");
+        when(jwtTokenProvider.verifyAccessToken("token"))
+                .thenReturn(new VerifiedAccessToken(1L, "example@friendy.com", Instant.MAX));
+
+        // When
+        AuthMember first = authMemberResolver.resolve(request);
+        AuthMember second = authMemberResolver.resolve(request);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        verify(jwtTokenProvider, times(1)).verifyAccessToken("token");
+    }
+
+    @Test
+    @DisplayName("회원 ID가 없는 이전 형식의 토큰은 이메일로 회원 ID를 조회한다")
+    void resolveLegacyTokenByEmail() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        when(jwtTokenExtractor.extractAccessToken(any())).thenReturn("token");
+        when(jwtTokenProvider.verifyAccessToken("token"))
+                .thenReturn(new VerifiedAccessToken(null, "example@friendy.com", Instant.MAX));
+        when(authService.getCachedMemberByEmail("example@friendy.com"))
+                .thenReturn(new CachedMember(3L, "example@friendy.com", "복성김", LocalDate.of(2002, 8, 13)));
+
+        // When
+        AuthMember authMember = authMemberResolver.resolve(request);
+
+        // Then
+        assertThat(authMember.memberId()).isEqualTo(3L);
+    }
+}
@@ -100,7 +100,7 @@ class AuthServiceTest {
         // Given
         Member savedMember = memberRepository.save(MemberFixture.memberFixture());
         final String memberEmail = savedMember.getEmail();
-        final String accessToken = jwtTokenProvider.generateAccessToken(memberEmail);
+        final String accessToken = jwtTokenProvider.generateAccessToken(savedMember.getId(), memberEmail);
 
         when(redisTemplate.hasKey(memberEmail)).thenReturn(true);
 
@@ -121,7 +121,7 @@ class AuthServiceTest {
         // Given
         Member savedMember = memberRepository.save(MemberFixture.memberFixture());
         final String memberEmail = savedMember.getEmail();
-        String accessToken = jwtTokenProvider.generateAccessToken(memberEmail);
+        String accessToken = jwtTokenProvider.generateAccessToken(savedMember.getId(), memberEmail);
 
         when(redisTemplate.hasKey(memberEmail)).thenReturn(false);
 
@@ -163,7 +163,7 @@ class AuthServiceTest {
         // Given
         final Member savedMember = memberRepository.save(MemberFixture.memberFixture());
         final String memberEmail = savedMember.getEmail();
-        final String validAccessToken = jwtTokenProvider.generateAccessToken(memberEmail);
+        final String validAccessToken = jwtTokenProvider.generateAccessToken(savedMember.getId(), memberEmail);
 
         when(redisTemplate.hasKey(memberEmail)).thenReturn(true);
 
@@ -184,7 +184,7 @@ class AuthServiceTest {
         // Given
         final Member savedMember = memberRepository.save(MemberFixture.memberFixture());
         final String memberEmail = savedMember.getEmail();
-        final String accessToken = jwtTokenProvider.generateAccessToken(memberEmail);
+        final String accessToken = jwtTokenProvider.generateAccessToken(savedMember.getId(), memberEmail);
 
         when(redisTemplate.hasKey(memberEmail)).thenReturn(false);
 
@@ -0,0 +1,132 @@
+package friendy.community.domain.comment.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import friendy.community.domain.comment.dto.request.CommentCreateRequest;
+import friendy.community.domain.comment.dto.response.FindAllCommentResponse;
+import friendy.community.domain.comment.dto.response.FindCommentResponse;
+import friendy.community.domain.comment.service.CommentService;
+import friendy.community.domain.post.dto.response.FindMemberResponse;
+import friendy.community.global.exception.ErrorCode;
+import friendy.community.global.exception.FriendyException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = CommentController.class)
+class CommentControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @MockitoBean
+    private CommentService commentService;
+
+    private static final String BASE_URL = "/posts/{postId}/comments";
+
+    @Test
+    @DisplayName("댓글 생성 성공 시 201 Created 응답")
+    void createCommentSuccessfullyReturns201Created() throws Exception {
+        // Given
+        CommentCreateRequest request = new CommentCreateRequest("댓글 내용");
+        when(commentService.saveComment(any(CommentCreateRequest.class), any(HttpServletRequest.class), eq(1L))).thenReturn(3L);
+
+        // When & Then
+        mockMvc.perform(post(BASE_URL, 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Location", "/posts/1/comments/3"));
+    }
+
+    @Test
+    @DisplayName("댓글 내용이 없으면 400 Bad Request 반환")
+    void createCommentWithoutContentReturns400BadRequest() throws Exception {
+        // Given
+        CommentCreateRequest request = new CommentCreateRequest(" ");
+
+        // When & Then
+        mockMvc.perform(post(BASE_URL, 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("댓글 삭제 성공 시 200 OK 응답")
+    void deleteCommentSuccessfullyReturns200Ok() throws Exception {
+        // Given
+        doNothing().when(commentService).deleteComment(any(HttpServletRequest.class), eq(1L), eq(3L));
+
+        // When & Then
+        mockMvc.perform(delete(BASE_URL + "/{commentId}", 1L, 3L))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("작성자가 아닌 사용자가 댓글 삭제 시 403 Forbidden 반환")
+    void deleteCommentByOtherUserReturns403Forbidden() throws Exception {
+        // Given
+        doThrow(new FriendyException(ErrorCode.FORBIDDEN_ACCESS, "댓글은 작성자 본인만 관리할 수 있습니다."))
+                .when(commentService).deleteComment(any(HttpServletRequest.class), eq(1L), eq(3L));
+
+        // When & Then
+        mockMvc.perform(delete(BASE_URL + "/{commentId}", 1L, 3L))
+                .andDo(print())
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.detail").value("댓글은 작성자 본인만 관리할 수 있습니다."));
+    }
+
+    @Test
+    @DisplayName("댓글 목록 조회 성공 시 200 OK 및 댓글 목록 반환")
+    void getCommentsSuccessfullyReturns200Ok() throws Exception {
+        // Given
+        FindAllCommentResponse response = new FindAllCommentResponse(List.of(
+                new FindCommentResponse(3L, "댓글 내용", "2025-01-23T10:00:00", new FindMemberResponse(1L, "author1"))
+        ), true, "3");
+        when(commentService.getComments(eq(1L), isNull())).thenReturn(response);
+
+        // When & Then
+        mockMvc.perform(get(BASE_URL, 1L))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments[0].content").value("댓글 내용"))
+                .andExpect(jsonPath("$.comments[0].authorResponse.nickname").value("author1"))
+                .andExpect(jsonPath("$.nextCursor").value("3"));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 게시글의 댓글 조회 시 404 Not Found 반환")
+    void getCommentsOfNonExistentPostReturns404NotFound() throws Exception {
+        // Given
+        when(commentService.getComments(anyLong(), any()))
+                .thenThrow(new FriendyException(ErrorCode.RESOURCE_NOT_FOUND, "존재하지 않는 게시글입니다."));
+
+        // When & Then
+        mockMvc.perform(get(BASE_URL, 999L))
+                .andDo(print())
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.detail").value("존재하지 않는 게시글입니다."));
+    }
+
+}
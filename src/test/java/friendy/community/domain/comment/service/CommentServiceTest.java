@@ -0,0 +1,168 @@
+package friendy.community.domain.comment.service;
+
+import friendy.community.domain.comment.dto.request.CommentCreateRequest;
+import friendy.community.domain.comment.dto.response.FindAllCommentResponse;
+import friendy.community.domain.comment.repository.CommentRepository;
+import friendy.community.domain.member.dto.request.MemberSignUpRequest;
+import friendy.community.domain.member.fixture.MemberFixture;
+import friendy.community.domain.member.model.Member;
+import friendy.community.domain.member.service.MemberService;
+import friendy.community.domain.post.counter.PostCounterBuffer;
+import friendy.community.domain.post.dto.request.PostCreateRequest;
+import friendy.community.domain.post.service.PostService;
+import friendy.community.global.exception.FriendyException;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static friendy.community.domain.auth.fixtures.TokenFixtures.CORRECT_ACCESS_TOKEN;
+import static friendy.community.domain.auth.fixtures.TokenFixtures.OTHER_USER_TOKEN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+@DirtiesContext
+class CommentServiceTest {
+
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private PostCounterBuffer postCounterBuffer;
+    @Autowired
+    private EntityManager entityManager;
+
+    private MockHttpServletRequest httpServletRequest;
+    private MockHttpServletRequest otherUserRequest;
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        Member member = MemberFixture.memberFixture();
+        memberService.signUp(new MemberSignUpRequest(
+                member.getEmail(), member.getNickname(), member.getPassword(), member.getBirthDate()));
+        memberService.signUp(new MemberSignUpRequest(
+                "user@example.com", "홍길동", "password123!", LocalDate.parse("2002-08-13")));
+
+        httpServletRequest = new MockHttpServletRequest();
+        httpServletRequest.addHeader("Authorization", CORRECT_ACCESS_TOKEN);
+        otherUserRequest = new MockHttpServletRequest();
+        otherUserRequest.addHeader("Authorization", OTHER_USER_TOKEN);
+        postId = postService.savePost(new PostCreateRequest("게시글 내용", List.of("프렌디")), httpServletRequest);
+    }
+
+    @Test
+    @DisplayName("댓글을 작성하면 댓글이 저장되고 댓글 수가 증가한다")
+    void saveCommentIncrementsCommentCount() {
+        // When
+        Long commentId = commentService.saveComment(new CommentCreateRequest("댓글 내용"), otherUserRequest, postId);
+
+        entityManager.clear();
+
+        // Then
+        assertThat(commentRepository.findById(commentId)).isPresent();
+        assertThat(postService.getPost(postId).commentCount()).isEqualTo(1);
+        assertThat(postCounterBuffer.getPending(postId).isZero()).isTrue();
+    }
+
+    @Test
+    @DisplayName("댓글을 삭제하면 같은 트랜잭션에서 댓글 수가 감소한다")
+    void deleteCommentDecrementsCommentCountInDatabase() {
+        // Given
+        Long commentId = commentService.saveComment(new CommentCreateRequest("댓글 내용"), httpServletRequest, postId);
+        commentService.saveComment(new CommentCreateRequest("남은 댓글"), otherUserRequest, postId);
+
+        // When
+        commentService.deleteComment(httpServletRequest, postId, commentId);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        assertThat(postService.getPost(postId).commentCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 게시글에 댓글을 작성하면 예외가 발생한다")
+    void saveCommentOnNonExistentPostThrowsException() {
+        // When & Then
+        assertThatThrownBy(() -> commentService.saveComment(new CommentCreateRequest("댓글 내용"), httpServletRequest, 999L))
+                .isInstanceOf(FriendyException.class)
+                .hasMessageContaining("존재하지 않는 게시글입니다.");
+    }
+
+    @Test
+    @DisplayName("댓글은 작성순으로 20개씩 조회하고, 다음 커서로 이어서 조회한다")
+    void getCommentsWithCursor() {
+        // Given
+        for (int i = 1; i <= 25; i++) {
+            commentService.saveComment(new CommentCreateRequest("댓글 " + i), i % 2 == 0 ? httpServletRequest : otherUserRequest, postId);
+        }
+
+        // When
+        FindAllCommentResponse firstPage = commentService.getComments(postId, null);
+        FindAllCommentResponse secondPage = commentService.getComments(postId, firstPage.nextCursor());
+
+        // Then
+        assertThat(firstPage.comments()).hasSize(20);
+        assertThat(firstPage.comments().get(0).content()).isEqualTo("댓글 1");
+        assertThat(firstPage.comments().get(0).authorResponse().nickname()).isEqualTo("홍길동");
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(secondPage.comments()).hasSize(5);
+        assertThat(secondPage.comments().get(4).content()).isEqualTo("댓글 25");
+        assertThat(secondPage.hasNext()).isFalse();
+        assertThat(secondPage.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 게시글의 댓글을 조회하면 예외가 발생한다")
+    void getCommentsOfNonExistentPostThrowsException() {
+        // When & Then
+        assertThatThrownBy(() -> commentService.getComments(999L, null))
+                .isInstanceOf(FriendyException.class)
+                .hasMessageContaining("존재하지 않는 게시글입니다.");
+    }
+
+    @Test
+    @DisplayName("작성자가 아닌 사용자가 댓글을 삭제하면 예외가 발생한다")
+    void deleteCommentByOtherUserThrowsException() {
+        // Given
+        Long commentId = commentService.saveComment(new CommentCreateRequest("댓글 내용"), httpServletRequest, postId);
+
+        // When & Then
+        assertThatThrownBy(() -> commentService.deleteComment(otherUserRequest, postId, commentId))
+                .isInstanceOf(FriendyException.class)
+                .hasMessageContaining("댓글은 작성자 본인만 관리할 수 있습니다.");
+    }
+
+    @Test
+    @DisplayName("댓글을 삭제하면 댓글 수가 감소하고, 댓글이 있는 게시글도 삭제할 수 있다")
+    void deleteCommentDecrementsCommentCount() {
+        // Given
+        Long commentId = commentService.saveComment(new CommentCreateRequest("댓글 내용"), httpServletRequest, postId);
+        commentService.saveComment(new CommentCreateRequest("남은 댓글"), otherUserRequest, postId);
+
+        // When
+        commentService.deleteComment(httpServletRequest, postId, commentId);
+        postService.deletePost(httpServletRequest, postId);
+
+        // Then
+        assertThat(commentRepository.findAll()).isEmpty();
+        assertThat(postCounterBuffer.getPending(postId).isZero()).isTrue();
+    }
+
+}
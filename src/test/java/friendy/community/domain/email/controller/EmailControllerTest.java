@@ -3,6 +3,7 @@ package friendy.community.domain.email.controller;
 import friendy.community.domain.email.dto.request.EmailRequest;
 import friendy.community.domain.email.dto.request.VerifyCodeRequest;
 import friendy.community.domain.email.service.EmailService;
+import friendy.community.global.ratelimit.RateLimiter;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -24,6 +25,9 @@ class EmailControllerTest {
     @MockitoBean
     private EmailService emailService;
 
+    @MockitoBean
+    private RateLimiter rateLimiter;
+
     @Test
     @DisplayName("인증 코드 전송 요청이 성공하면 200 OK를 반환한다")
     void sendAuthenticatedEmailSuccessfullyReturnsOk() throws Exception {
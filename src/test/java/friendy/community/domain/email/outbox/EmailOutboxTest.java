@@ -0,0 +1,185 @@
+package friendy.community.domain.email.outbox;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import friendy.community.global.exception.ErrorCode;
+import friendy.community.global.exception.FriendyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.Message;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class EmailOutboxTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private EmailOutbox emailOutbox;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (emailOutbox != null) {
+            emailOutbox.stop();
+        }
+    }
+
+    private EmailOutbox startOutbox(JavaMailSender mailSender, int capacity, int workers) {
+        EmailOutbox outbox = new EmailOutbox(mailSender, meterRegistry);
+        ReflectionTestUtils.setField(outbox, "capacity", capacity);
+        ReflectionTestUtils.setField(outbox, "workers", workers);
+        ReflectionTestUtils.setField(outbox, "batchSize", 20);
+        ReflectionTestUtils.setField(outbox, "maxAttempts", 3);
+        ReflectionTestUtils.setField(outbox, "initialBackoff", Duration.ofMillis(10));
+        ReflectionTestUtils.setField(outbox, "shutdownTimeout", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(outbox, "virtualThreads", false);
+        outbox.start();
+        return outbox;
+    }
+
+    private JavaMailSender greenMailSender() {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(greenMail.getSmtp().getPort());
+        return mailSender;
+    }
+
+    private void enqueueMail(String recipient) {
+        emailOutbox.enqueue(recipient, message -> {
+            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+            helper.setFrom("bskfriendy@gmail.com");
+            helper.setTo(recipient);
+            helper.setSubject("Friendy Community 이메일 인증 코드");
+            helper.setText("<h2>123456</h2>", true);
+        });
+    }
+
+    @Test
+    @DisplayName("대기열에 넣은 메일은 워커가 SMTP 서버로 모두 발송한다")
+    void queuedMailsAreDelivered() throws Exception {
+        // Given
+        emailOutbox = startOutbox(greenMailSender(), 100, 2);
+
+        // When
+        enqueueMail("first@example.com");
+        enqueueMail("second@example.com");
+        enqueueMail("third@example.com");
+
+        // Then
+        assertThat(greenMail.waitForIncomingEmail(5000, 3)).isTrue();
+        MimeMessage[] receivedMessages = greenMail.getReceivedMessages();
+        assertThat(Arrays.stream(receivedMessages).map(this::recipientOf))
+                .containsExactlyInAnyOrder("first@example.com", "second@example.com", "third@example.com");
+        assertThat(receivedMessages[0].getSubject()).isEqualTo("Friendy Community 이메일 인증 코드");
+        assertThat(meterRegistry.get("email.outbox.messages").tag("result", "sent").counter().count())
+                .isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("발송에 실패한 메일은 백오프 후 재시도한다")
+    void failedMailIsRetried() {
+        // Given
+        JavaMailSender mailSender = mock(JavaMailSender.class);
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage(Session.getInstance(new Properties())));
+        doThrow(new MailSendException("SMTP 연결 실패"))
+                .doNothing()
+                .when(mailSender).send(any(MimeMessage[].class));
+        emailOutbox = startOutbox(mailSender, 100, 1);
+
+        // When
+        enqueueMail("retry@example.com");
+
+        // Then
+        verify(mailSender, timeout(2000).times(2)).send(any(MimeMessage[].class));
+        assertThat(meterRegistry.get("email.outbox.send.latency").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재시도를 기다리는 동안에도 워커는 다음 메일을 발송한다")
+    void retryBackoffDoesNotBlockWorker() {
+        // Given
+        JavaMailSender mailSender = mock(JavaMailSender.class);
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage(Session.getInstance(new Properties())));
+        doThrow(new MailSendException("SMTP 연결 실패"))
+                .doNothing()
+                .when(mailSender).send(any(MimeMessage[].class));
+        emailOutbox = startOutbox(mailSender, 100, 1);
+        ReflectionTestUtils.setField(emailOutbox, "initialBackoff", Duration.ofSeconds(2));
+        enqueueMail("retry@example.com");
+        verify(mailSender, timeout(1000)).send(any(MimeMessage[].class));
+
+        // When
+        enqueueMail("next@example.com");
+
+        // Then
+        verify(mailSender, timeout(1000).times(2)).send(any(MimeMessage[].class));
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 발송 요청을 503으로 거절한다")
+    void fullQueueRejectsMail() throws Exception {
+        // Given
+        CountDownLatch workerBusy = new CountDownLatch(1);
+        CountDownLatch releaseWorker = new CountDownLatch(1);
+        emailOutbox = startOutbox(greenMailSender(), 1, 1);
+        emailOutbox.enqueue("busy@example.com", message -> {
+            workerBusy.countDown();
+            releaseWorker.await(5, TimeUnit.SECONDS);
+        });
+        workerBusy.await(5, TimeUnit.SECONDS);
+        enqueueMail("queued@example.com");
+
+        // When & Then
+        assertThatThrownBy(() -> enqueueMail("rejected@example.com"))
+                .isInstanceOf(FriendyException.class)
+                .hasMessageContaining("메일 발송 요청이 많습니다.")
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.SERVICE_UNAVAILABLE);
+        releaseWorker.countDown();
+    }
+
+    @Test
+    @DisplayName("확보한 자리를 취소하면 다른 요청이 그 자리를 쓸 수 있다")
+    void cancelledReservationReleasesSlot() {
+        // Given
+        emailOutbox = startOutbox(greenMailSender(), 1, 1);
+        EmailOutbox.Reservation reservation = emailOutbox.reserve();
+        assertThatThrownBy(() -> emailOutbox.reserve())
+                .isInstanceOf(FriendyException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.SERVICE_UNAVAILABLE);
+
+        // When
+        reservation.cancel();
+
+        // Then
+        emailOutbox.reserve().cancel();
+    }
+
+    private String recipientOf(MimeMessage message) {
+        try {
+            return message.getRecipients(Message.RecipientType.TO)[0].toString();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
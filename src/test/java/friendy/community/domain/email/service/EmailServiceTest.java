@@ -2,6 +2,8 @@ package friendy.community.domain.email.service;
 
 import friendy.community.domain.email.dto.request.EmailRequest;
 import friendy.community.domain.email.dto.request.VerifyCodeRequest;
+import friendy.community.domain.email.outbox.EmailOutbox;
+import friendy.community.domain.email.template.VerificationEmailTemplate;
 import friendy.community.global.exception.ErrorCode;
 import friendy.community.global.exception.FriendyException;
 import jakarta.mail.internet.MimeMessage;
@@ -10,12 +12,13 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessagePreparator;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
-import org.thymeleaf.spring6.SpringTemplateEngine;
 
 import java.util.concurrent.TimeUnit;
 
@@ -37,14 +40,11 @@ class EmailServiceTest {
     @MockitoBean
     private JavaMailSender mailSender;
 
-    @MockitoBean
-    private SpringTemplateEngine templateEngine;
-
     @MockitoBean
     private MimeMessage mimeMessage;
 
     @Test
-    @DisplayName("이메일 전송이 성공하면 Redis에 인증 코드가 저장된다")
+    @DisplayName("이메일 전송 요청 시 Redis에 인증 코드를 저장하고 메일은 비동기로 발송된다")
     void sendAuthenticatedEmailSuccessfullyStoresCodeInRedis() throws Exception {
         // Given
         EmailRequest request = new EmailRequest("test@example.com");
@@ -54,14 +54,11 @@ class EmailServiceTest {
         ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
         when(redisTemplate.opsForValue()).thenReturn(valueOperations);
 
-        // TemplateEngine Mock 설정
-        when(templateEngine.process(anyString(), any())).thenReturn("<html>dummy content</html>");
-
         // When
         emailService.sendAuthenticatedEmail(request);
 
         // Then
-        verify(mailSender, times(1)).send(any(MimeMessage.class));
+        verify(mailSender, timeout(1000).times(1)).send(any(MimeMessage[].class));
         verify(valueOperations, times(1)).set(
                 eq(request.email()),
                 anyString(),
@@ -125,4 +122,42 @@ class EmailServiceTest {
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_REQUEST);
     }
 
+    @Test
+    @DisplayName("발송 대기열이 가득 차 거절되면 인증번호를 저장하지 않는다")
+    void rejectedEmailDoesNotStoreAuthCode() {
+        // Given
+        EmailOutbox emailOutbox = mock(EmailOutbox.class);
+        when(emailOutbox.reserve())
+                .thenThrow(new FriendyException(ErrorCode.SERVICE_UNAVAILABLE, "메일 발송 요청이 많습니다. 잠시 후 다시 시도해주세요."));
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        EmailService rejectingEmailService = new EmailService(redisTemplate, emailOutbox, mock(VerificationEmailTemplate.class));
+
+        // When & Then
+        assertThatThrownBy(() -> rejectingEmailService.sendAuthenticatedEmail(new EmailRequest("test@example.com")))
+                .isInstanceOf(FriendyException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.SERVICE_UNAVAILABLE);
+        verify(valueOperations, never()).set(anyString(), anyString(), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    @DisplayName("인증번호 저장에 실패하면 메일을 발송하지 않고 대기열 자리를 돌려준다")
+    void failedAuthCodeSaveCancelsReservation() {
+        // Given
+        EmailOutbox emailOutbox = mock(EmailOutbox.class);
+        EmailOutbox.Reservation reservation = mock(EmailOutbox.Reservation.class);
+        when(emailOutbox.reserve()).thenReturn(reservation);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        doThrow(new RedisConnectionFailureException("Redis 연결 실패"))
+                .when(valueOperations).set(anyString(), anyString(), anyLong(), any(TimeUnit.class));
+        EmailService failingEmailService = new EmailService(redisTemplate, emailOutbox, mock(VerificationEmailTemplate.class));
+
+        // When & Then
+        assertThatThrownBy(() -> failingEmailService.sendAuthenticatedEmail(new EmailRequest("test@example.com")))
+                .isInstanceOf(RedisConnectionFailureException.class);
+        verify(reservation).cancel();
+        verify(reservation, never()).submit(anyString(), any(MimeMessagePreparator.class));
+    }
+
 }
@@ -0,0 +1,60 @@
+package friendy.community.domain.email.template;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class VerificationEmailTemplateTest {
+
+    private SpringTemplateEngine templateEngine;
+
+    @BeforeEach
+    void setUp() {
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setCharacterEncoding("UTF-8");
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+    }
+
+    @Test
+    @DisplayName("미리 렌더링한 본문은 템플릿 엔진으로 렌더링한 본문과 같다")
+    void renderMatchesTemplateEngine() {
+        // Given
+        VerificationEmailTemplate verificationEmailTemplate = new VerificationEmailTemplate(templateEngine);
+        verificationEmailTemplate.compile();
+        Context context = new Context();
+        context.setVariable("authCode", "123456");
+
+        // When
+        String rendered = verificationEmailTemplate.render("123456");
+
+        // Then
+        assertThat(rendered).isEqualTo(templateEngine.process("email", context));
+    }
+
+    @Test
+    @DisplayName("템플릿에 인증번호 자리가 없으면 기동 시 예외가 발생한다")
+    void compileFailsWithoutPlaceholder() {
+        // Given
+        SpringTemplateEngine brokenTemplateEngine = mock(SpringTemplateEngine.class);
+        when(brokenTemplateEngine.process(anyString(), any(Context.class))).thenReturn("<html>인증번호 없음</html>");
+        VerificationEmailTemplate verificationEmailTemplate = new VerificationEmailTemplate(brokenTemplateEngine);
+
+        // When & Then
+        assertThatThrownBy(verificationEmailTemplate::compile)
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+}
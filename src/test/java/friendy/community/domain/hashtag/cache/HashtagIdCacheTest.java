@@ -0,0 +1,64 @@
+package friendy.community.domain.hashtag.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HashtagIdCacheTest {
+
+    private final HashtagIdCache hashtagIdCache = new HashtagIdCache();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 바로 캐시에 적재된다")
+    void putImmediatelyWithoutTransaction() {
+        // When
+        hashtagIdCache.putAfterCommit(Map.of("프렌디", 1L));
+
+        // Then
+        assertThat(hashtagIdCache.getAllPresent(List.of("프렌디", "개발"))).containsExactly(Map.entry("프렌디", 1L));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋된 뒤에만 캐시에 적재된다")
+    void putOnlyAfterCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        hashtagIdCache.putAfterCommit(Map.of("프렌디", 1L));
+        assertThat(hashtagIdCache.getAllPresent(List.of("프렌디"))).isEmpty();
+
+        // When
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Then
+        assertThat(hashtagIdCache.getAllPresent(List.of("프렌디"))).containsEntry("프렌디", 1L);
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션에서 만든 ID는 캐시에 남지 않는다")
+    void notCachedOnRollback() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        hashtagIdCache.putAfterCommit(Map.of("프렌디", 1L));
+
+        // When
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Then
+        assertThat(hashtagIdCache.getAllPresent(List.of("프렌디"))).isEmpty();
+    }
+}
@@ -0,0 +1,78 @@
+package friendy.community.domain.hashtag.controller;
+
+import friendy.community.domain.hashtag.dto.response.FindHashtagsResponse;
+import friendy.community.domain.hashtag.dto.response.HashtagResponse;
+import friendy.community.domain.hashtag.service.HashtagService;
+import friendy.community.domain.hashtag.trending.TrendingPeriod;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = HashtagController.class)
+class HashtagControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @MockitoBean
+    private HashtagService hashtagService;
+
+    private static final String BASE_URL = "/hashtags";
+
+    @Test
+    @DisplayName("해시태그 자동완성 성공 시 200 OK와 추천 해시태그 반환")
+    void suggestHashtagsSuccessfullyReturns200Ok() throws Exception {
+        // Given
+        when(hashtagService.suggestHashtags("프렌"))
+                .thenReturn(new FindHashtagsResponse(List.of(new HashtagResponse("프렌디", 3L))));
+
+        // When & Then
+        mockMvc.perform(get(BASE_URL + "/suggest").param("prefix", "프렌"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hashtags[0].name").value("프렌디"))
+                .andExpect(jsonPath("$.hashtags[0].count").value(3));
+    }
+
+    @Test
+    @DisplayName("접두사 없이 자동완성 요청 시 400 Bad Request 반환")
+    void suggestHashtagsWithoutPrefixReturns400BadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(get(BASE_URL + "/suggest"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("인기 해시태그 조회 시 기간을 지정하지 않으면 최근 1시간 기준으로 조회한다")
+    void getTrendingHashtagsDefaultsToHour() throws Exception {
+        // Given
+        when(hashtagService.getTrendingHashtags(TrendingPeriod.HOUR))
+                .thenReturn(new FindHashtagsResponse(List.of(new HashtagResponse("개발", 12L))));
+
+        // When & Then
+        mockMvc.perform(get(BASE_URL + "/trending"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hashtags[0].name").value("개발"))
+                .andExpect(jsonPath("$.hashtags[0].count").value(12));
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 기간으로 인기 해시태그 조회 시 400 Bad Request 반환")
+    void getTrendingHashtagsWithInvalidPeriodReturns400BadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(get(BASE_URL + "/trending").param("period", "WEEK"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,116 @@
+package friendy.community.domain.hashtag.index;
+
+import friendy.community.domain.hashtag.dto.response.HashtagResponse;
+import friendy.community.domain.hashtag.repository.HashtagRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HashtagPrefixIndexTest {
+
+    private final HashtagRepository hashtagRepository = mock(HashtagRepository.class);
+    private final HashtagPrefixIndex hashtagPrefixIndex = new HashtagPrefixIndex(hashtagRepository);
+
+    @BeforeEach
+    void setUp() {
+        when(hashtagRepository.findAllUsages()).thenReturn(List.of(
+                new HashtagResponse("프렌디", 5L),
+                new HashtagResponse("프렌즈", 10L),
+                new HashtagResponse("프로그래밍", 7L),
+                new HashtagResponse("개발", 100L)
+        ));
+        hashtagPrefixIndex.reload();
+    }
+
+    @Test
+    @DisplayName("접두사로 시작하는 해시태그를 사용 횟수가 많은 순으로 반환한다")
+    void suggestReturnsPrefixMatchesOrderedByUsage() {
+        // When
+        List<HashtagResponse> suggestions = hashtagPrefixIndex.suggest("프", 10);
+
+        // Then
+        assertThat(suggestions).extracting(HashtagResponse::name).containsExactly("프렌즈", "프로그래밍", "프렌디");
+    }
+
+    @Test
+    @DisplayName("요청한 개수만큼만 반환한다")
+    void suggestLimitsSize() {
+        // When
+        List<HashtagResponse> suggestions = hashtagPrefixIndex.suggest("프렌", 1);
+
+        // Then
+        assertThat(suggestions).containsExactly(new HashtagResponse("프렌즈", 10L));
+    }
+
+    @Test
+    @DisplayName("게시글 저장 시 반영된 사용 횟수가 순위에 반영된다")
+    void addUsagesUpdatesRanking() {
+        // When
+        hashtagPrefixIndex.addUsagesAfterCommit(List.of("프렌디", "프렌디드"), 6);
+
+        // Then
+        assertThat(hashtagPrefixIndex.suggest("프렌", 10)).extracting(HashtagResponse::name)
+                .containsExactly("프렌디", "프렌즈", "프렌디드");
+    }
+
+    @Test
+    @DisplayName("일치하는 해시태그가 없으면 빈 목록을 반환한다")
+    void suggestWithoutMatchReturnsEmptyList() {
+        // When & Then
+        assertThat(hashtagPrefixIndex.suggest("여행", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("접두사에 걸리는 해시태그가 많아도 사용 횟수 상위를 정확히 반환한다")
+    void suggestRanksAllPrefixMatches() {
+        // Given
+        List<HashtagResponse> usages = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            usages.add(new HashtagResponse("태그" + String.format("%05d", i), 1L));
+        }
+        usages.add(new HashtagResponse("태그99999", 50L));
+        when(hashtagRepository.findAllUsages()).thenReturn(usages);
+        hashtagPrefixIndex.reload();
+
+        // When
+        List<HashtagResponse> suggestions = hashtagPrefixIndex.suggest("태그", 3);
+
+        // Then
+        assertThat(suggestions).extracting(HashtagResponse::name).containsExactly("태그99999", "태그00000", "태그00001");
+    }
+
+    @Test
+    @DisplayName("사용 횟수가 줄어들면 상위 목록의 순서에 반영된다")
+    void addNegativeUsagesUpdatesRanking() {
+        // When
+        hashtagPrefixIndex.addUsagesAfterCommit(List.of("프렌즈"), -8);
+
+        // Then
+        assertThat(hashtagPrefixIndex.suggest("프", 10)).extracting(HashtagResponse::name)
+                .containsExactly("프로그래밍", "프렌디", "프렌즈");
+    }
+
+    @Test
+    @DisplayName("재적재 중에 커밋된 사용 횟수는 새 인덱스에도 반영된다")
+    void usagesAddedDuringReloadAreReplayed() {
+        // Given
+        when(hashtagRepository.findAllUsages()).thenAnswer(invocation -> {
+            hashtagPrefixIndex.addUsagesAfterCommit(List.of("프렌디"), 20);
+            return List.of(new HashtagResponse("프렌디", 5L), new HashtagResponse("프렌즈", 10L));
+        });
+
+        // When
+        hashtagPrefixIndex.reload();
+
+        // Then
+        assertThat(hashtagPrefixIndex.suggest("프렌", 10))
+                .containsExactly(new HashtagResponse("프렌디", 25L), new HashtagResponse("프렌즈", 10L));
+    }
+}
@@ -1,6 +1,9 @@
 package friendy.community.domain.hashtag.service;
 
+import friendy.community.domain.hashtag.cache.HashtagIdCache;
+import friendy.community.domain.hashtag.index.HashtagPrefixIndex;
 import friendy.community.domain.hashtag.model.Hashtag;
+import friendy.community.domain.hashtag.repository.HashtagJdbcRepository;
 import friendy.community.domain.hashtag.repository.HashtagRepository;
 import friendy.community.domain.hashtag.repository.PostHashtagRepository;
 import friendy.community.domain.member.fixture.MemberFixture;
@@ -10,18 +13,34 @@ import friendy.community.domain.post.model.Post;
 import friendy.community.domain.post.model.PostHashtag;
 import friendy.community.domain.post.repository.PostRepository;
 import friendy.community.domain.post.dto.request.PostCreateRequest;
+import friendy.community.domain.hashtag.trending.TrendingHashtagCounter;
+import friendy.community.global.exception.FriendyException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @SpringBootTest
 @Transactional
@@ -71,6 +90,26 @@ class HashtagServiceTest {
                 .containsExactlyInAnyOrder("프렌디", "개발", "스터디");
     }
 
+    @Test
+    @DisplayName("이미 존재하는 해시태그와 중복된 이름은 새로 만들지 않고 재사용한다")
+    void saveHashtagsReusesExistingAndDuplicatedNames() {
+        // Given
+        Hashtag existingHashtag = hashtagRepository.save(new Hashtag("프렌디"));
+        List<String> hashtagNames = List.of("프렌디", "개발", "개발");
+
+        // When
+        hashtagService.saveHashtags(post, hashtagNames);
+
+        // Then
+        List<Hashtag> savedHashtags = hashtagRepository.findAll();
+        assertThat(savedHashtags).extracting(Hashtag::getName).containsExactlyInAnyOrder("프렌디", "개발");
+
+        List<PostHashtag> postHashtags = postHashtagRepository.findAll();
+        assertThat(postHashtags).hasSize(2);
+        assertThat(postHashtags).extracting(postHashtag -> postHashtag.getHashtag().getId())
+                .contains(existingHashtag.getId());
+    }
+
     @Test
     @DisplayName("게시글 해시태그를 수정하면 기존 PostHashtag가 삭제되고 새 해시태그가 저장된다")
     void updateHashtagsSuccessfullyUpdatesPostHashtags() {
@@ -90,6 +129,54 @@ class HashtagServiceTest {
                 .containsExactlyInAnyOrder("스터디", "코딩");
     }
 
+    @Test
+    @DisplayName("게시글 해시태그를 일부만 바꾸면 바뀐 해시태그만 추가되고 삭제된다")
+    void updateHashtagsOnlyAppliesDifference() {
+        // Given
+        hashtagService.saveHashtags(post, List.of("프렌디", "개발", "스터디"));
+
+        // When
+        hashtagService.updateHashtags(post, List.of("프렌디", "스터디", "코딩"));
+
+        // Then
+        List<PostHashtag> postHashtags = postHashtagRepository.findAll();
+        assertThat(postHashtags).extracting(postHashtag -> postHashtag.getHashtag().getName())
+                .containsExactlyInAnyOrder("프렌디", "스터디", "코딩");
+    }
+
+    @Test
+    @DisplayName("게시글 해시태그가 그대로면 기존 PostHashtag가 유지된다")
+    void updateHashtagsWithSameHashtagsKeepsPostHashtags() {
+        // Given
+        hashtagService.saveHashtags(post, List.of("프렌디", "개발"));
+        List<PostHashtag> before = postHashtagRepository.findAll();
+
+        // When
+        hashtagService.updateHashtags(post, List.of("개발", "프렌디"));
+
+        // Then
+        List<PostHashtag> after = postHashtagRepository.findAll();
+        assertThat(after).containsExactlyInAnyOrderElementsOf(before);
+    }
+
+    @Test
+    @DisplayName("게시글 해시태그가 그대로면 삭제나 INSERT 쿼리를 보내지 않는다")
+    void updateHashtagsWithSameHashtagsSendsNoWrites() {
+        // Given
+        HashtagJdbcRepository hashtagJdbcRepository = mock(HashtagJdbcRepository.class);
+        PostHashtagRepository mockPostHashtagRepository = mock(PostHashtagRepository.class);
+        when(hashtagJdbcRepository.findIdsByPostId(post.getId())).thenReturn(Map.of("프렌디", 1L, "개발", 2L));
+        HashtagService service = hashtagServiceWith(hashtagJdbcRepository, mockPostHashtagRepository);
+
+        // When
+        service.updateHashtags(post, List.of("개발", "프렌디"));
+
+        // Then
+        verify(mockPostHashtagRepository, never()).deleteByPostIdAndHashtagIdIn(any(), anyCollection());
+        verify(hashtagJdbcRepository, never()).upsertAll(anyCollection());
+        verify(hashtagJdbcRepository, never()).insertPostHashtags(any(), anyCollection());
+    }
+
     @Test
     @DisplayName("게시글이 삭제되면 해당 게시글의 PostHashtag도 함께 삭제된다")
     void deleteHashtagsSuccessfullyRemovesPostHashtags() {
@@ -104,4 +191,83 @@ class HashtagServiceTest {
         List<PostHashtag> postHashtags = postHashtagRepository.findAll();
         assertThat(postHashtags).isEmpty();
     }
+
+    @Test
+    @DisplayName("upsert 후 일반 조회에서 빠진 해시태그는 잠금 읽기로 다시 조회한다")
+    void saveHashtagsReReadsMissingIdsWithLockingRead() {
+        // Given
+        HashtagJdbcRepository hashtagJdbcRepository = mock(HashtagJdbcRepository.class);
+        when(hashtagJdbcRepository.findIdsByNames(anyCollection())).thenReturn(new HashMap<>(Map.of("개발", 1L)));
+        when(hashtagJdbcRepository.findIdsByNamesForUpdate(anyCollection())).thenReturn(Map.of("개발", 1L, "프렌디", 2L));
+        HashtagService service = hashtagServiceWith(hashtagJdbcRepository, mock(PostHashtagRepository.class));
+
+        // When
+        service.saveHashtags(post, List.of("프렌디", "개발"));
+
+        // Then
+        ArgumentCaptor<Collection<Long>> hashtagIds = ArgumentCaptor.forClass(Collection.class);
+        verify(hashtagJdbcRepository).insertPostHashtags(eq(post.getId()), hashtagIds.capture());
+        assertThat(hashtagIds.getValue()).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("잠금 읽기로도 해시태그 ID를 찾지 못하면 매핑을 저장하지 않고 예외를 던진다")
+    void saveHashtagsThrowsWhenIdsAreStillMissing() {
+        // Given
+        HashtagJdbcRepository hashtagJdbcRepository = mock(HashtagJdbcRepository.class);
+        when(hashtagJdbcRepository.findIdsByNames(anyCollection())).thenReturn(new HashMap<>());
+        when(hashtagJdbcRepository.findIdsByNamesForUpdate(anyCollection())).thenReturn(Map.of());
+        HashtagService service = hashtagServiceWith(hashtagJdbcRepository, mock(PostHashtagRepository.class));
+
+        // When & Then
+        assertThatThrownBy(() -> service.saveHashtags(post, List.of("프렌디")))
+                .isInstanceOf(FriendyException.class)
+                .hasMessageContaining("해시태그 저장에 실패했습니다.");
+        verify(hashtagJdbcRepository, never()).insertPostHashtags(any(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("콜레이션상 같은 이름은 저장된 표기와 달라도 같은 해시태그로 한 번만 연결한다")
+    void saveHashtagsMatchesNamesCollapsedByCollation() {
+        // Given
+        HashtagJdbcRepository hashtagJdbcRepository = mock(HashtagJdbcRepository.class);
+        when(hashtagJdbcRepository.findIdsByNames(anyCollection())).thenReturn(Map.of("Java", 1L));
+        when(hashtagJdbcRepository.findIdsByNamesForUpdate(anyCollection())).thenReturn(Map.of("Java", 1L));
+        when(hashtagJdbcRepository.findIdByNameForUpdate("java")).thenReturn(Optional.of(1L));
+        HashtagService service = hashtagServiceWith(hashtagJdbcRepository, mock(PostHashtagRepository.class));
+
+        // When
+        service.saveHashtags(post, List.of("Java", "java"));
+
+        // Then
+        ArgumentCaptor<Collection<Long>> hashtagIds = ArgumentCaptor.forClass(Collection.class);
+        verify(hashtagJdbcRepository).insertPostHashtags(eq(post.getId()), hashtagIds.capture());
+        assertThat(hashtagIds.getValue()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("게시글 해시태그를 삭제하면 자동완성 사용 횟수도 줄인다")
+    void deleteHashtagsDecrementsPrefixIndexUsages() {
+        // Given
+        HashtagJdbcRepository hashtagJdbcRepository = mock(HashtagJdbcRepository.class);
+        HashtagPrefixIndex hashtagPrefixIndex = mock(HashtagPrefixIndex.class);
+        when(hashtagJdbcRepository.findIdsByPostId(post.getId())).thenReturn(Map.of("프렌디", 1L));
+        when(hashtagJdbcRepository.findNamesByPostIds(List.of(1L, 2L))).thenReturn(List.of("프렌디", "개발", "프렌디"));
+        HashtagService service = new HashtagService(hashtagJdbcRepository, mock(PostHashtagRepository.class),
+                mock(HashtagIdCache.class), hashtagPrefixIndex, mock(TrendingHashtagCounter.class));
+
+        // When
+        service.deleteHashtags(post.getId());
+        service.deleteHashtags(List.of(1L, 2L));
+
+        // Then
+        verify(hashtagPrefixIndex).addUsagesAfterCommit(Set.of("프렌디"), -1);
+        verify(hashtagPrefixIndex).addUsagesAfterCommit(List.of("프렌디", "개발", "프렌디"), -1);
+    }
+
+    private HashtagService hashtagServiceWith(HashtagJdbcRepository hashtagJdbcRepository,
+                                              PostHashtagRepository postHashtagRepository) {
+        return new HashtagService(hashtagJdbcRepository, postHashtagRepository, mock(HashtagIdCache.class),
+                mock(HashtagPrefixIndex.class), mock(TrendingHashtagCounter.class));
+    }
 }
@@ -0,0 +1,97 @@
+package friendy.community.domain.hashtag.trending;
+
+import friendy.community.domain.hashtag.dto.response.HashtagResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrendingHashtagCounterTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-01-23T10:00:00Z"));
+    private final TrendingHashtagCounter trendingHashtagCounter = new TrendingHashtagCounter(clock, Duration.ZERO);
+
+    @Test
+    @DisplayName("최근 1시간 동안 많이 달린 해시태그 순으로 반환한다")
+    void getTopHashtagsOrdersByCount() {
+        // Given
+        trendingHashtagCounter.recordAfterCommit(List.of("프렌디", "개발"));
+        trendingHashtagCounter.recordAfterCommit(List.of("개발"));
+        clock.advance(Duration.ofMinutes(30));
+        trendingHashtagCounter.recordAfterCommit(List.of("개발", "스터디"));
+
+        // When
+        List<HashtagResponse> topHashtags = trendingHashtagCounter.getTopHashtags(TrendingPeriod.HOUR);
+
+        // Then
+        assertThat(topHashtags).containsExactly(
+                new HashtagResponse("개발", 3L),
+                new HashtagResponse("스터디", 1L),
+                new HashtagResponse("프렌디", 1L)
+        );
+    }
+
+    @Test
+    @DisplayName("윈도우를 벗어난 기록은 집계에서 제외된다")
+    void expiredBucketsAreExcluded() {
+        // Given
+        trendingHashtagCounter.recordAfterCommit(List.of("프렌디"));
+        clock.advance(Duration.ofMinutes(61));
+        trendingHashtagCounter.recordAfterCommit(List.of("개발"));
+
+        // When
+        List<HashtagResponse> hourly = trendingHashtagCounter.getTopHashtags(TrendingPeriod.HOUR);
+        List<HashtagResponse> daily = trendingHashtagCounter.getTopHashtags(TrendingPeriod.DAY);
+
+        // Then
+        assertThat(hourly).extracting(HashtagResponse::name).containsExactly("개발");
+        assertThat(daily).extracting(HashtagResponse::name).containsExactlyInAnyOrder("프렌디", "개발");
+    }
+
+    @Test
+    @DisplayName("상위 10개까지만 반환한다")
+    void getTopHashtagsLimitsToTen() {
+        // Given
+        for (int i = 0; i < 15; i++) {
+            trendingHashtagCounter.recordAfterCommit(List.of("태그" + i));
+        }
+
+        // When & Then
+        assertThat(trendingHashtagCounter.getTopHashtags(TrendingPeriod.DAY)).hasSize(10);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
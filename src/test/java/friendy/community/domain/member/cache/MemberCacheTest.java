@@ -0,0 +1,107 @@
+package friendy.community.domain.member.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import friendy.community.domain.member.model.Member;
+import friendy.community.domain.member.repository.MemberRepository;
+import friendy.community.global.cache.CacheInvalidationBroadcaster;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class MemberCacheTest {
+
+    private final MemberRepository memberRepository = mock(MemberRepository.class);
+    private final CacheInvalidationBroadcaster broadcaster = mock(CacheInvalidationBroadcaster.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MemberCache memberCache = new MemberCache(
+            memberRepository, mock(StringRedisTemplate.class), new ObjectMapper(), broadcaster, meterRegistry);
+
+    private final Member member = new Member(1L, "example@friendy.com", "복성김", "password", "salt", LocalDate.of(2002, 8, 13));
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(memberCache, "redisEnabled", false);
+        ReflectionTestUtils.setField(memberCache, "maximumSize", 100L);
+        ReflectionTestUtils.setField(memberCache, "localTtl", Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(memberCache, "redisTtl", Duration.ofMinutes(30));
+        memberCache.initialize();
+    }
+
+    @Test
+    @DisplayName("한 번 조회한 회원은 이메일과 ID 모두 DB 조회 없이 반환된다")
+    void cachedMemberIsReturnedWithoutQuery() {
+        // Given
+        when(memberRepository.findByEmail("example@friendy.com")).thenReturn(Optional.of(member));
+        memberCache.findByEmail("example@friendy.com");
+
+        // When
+        Optional<CachedMember> byEmail = memberCache.findByEmail("example@friendy.com");
+        Optional<CachedMember> byId = memberCache.findById(1L);
+
+        // Then
+        assertThat(byEmail).contains(CachedMember.from(member));
+        assertThat(byId).contains(CachedMember.from(member));
+        verify(memberRepository, times(1)).findByEmail("example@friendy.com");
+        verify(memberRepository, never()).findById(1L);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "member.email").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("회원을 제거하면 다시 DB에서 조회하고 다른 노드에 무효화 메시지를 보낸다")
+    void evictReloadsAndBroadcasts() {
+        // Given
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+        memberCache.findById(1L);
+
+        // When
+        memberCache.evict(1L, "example@friendy.com");
+        memberCache.findById(1L);
+
+        // Then
+        verify(memberRepository, times(2)).findById(1L);
+        verify(broadcaster).broadcast(anyString(), eq("1,example@friendy.com"));
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지를 받으면 로컬 캐시를 비운다")
+    void invalidationMessageEvictsLocalCache() {
+        // Given
+        when(memberRepository.findByEmail("example@friendy.com")).thenReturn(Optional.of(member));
+        memberCache.findByEmail("example@friendy.com");
+
+        // When
+        memberCache.onInvalidation("1,example@friendy.com");
+        memberCache.findByEmail("example@friendy.com");
+
+        // Then
+        verify(memberRepository, times(2)).findByEmail("example@friendy.com");
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 회원은 캐시하지 않는다")
+    void missingMemberIsNotCached() {
+        // Given
+        when(memberRepository.findById(999L)).thenReturn(Optional.empty());
+
+        // When
+        memberCache.findById(999L);
+        Optional<CachedMember> result = memberCache.findById(999L);
+
+        // Then
+        assertThat(result).isEmpty();
+        verify(memberRepository, times(2)).findById(999L);
+    }
+}
@@ -3,7 +3,16 @@ package friendy.community.domain.member.encryption;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -73,4 +82,69 @@ class SHA2PasswordEncryptorTest {
         assertThat(encryptedPassword1).isNotEqualTo(encryptedPassword2);
     }
 
+    @Test
+    @DisplayName("문자열을 이어 붙여 UTF-8 로 해시하던 기존 암호화 값과 같으면 성공")
+    void encryptIsCompatibleWithConcatenatedHash() throws Exception {
+        // Given
+        String plainPassword = "비밀번호123!";
+        String salt = "randomSalt";
+        byte[] concatenatedHash = MessageDigest.getInstance("SHA-256")
+                .digest((plainPassword + salt).getBytes(StandardCharsets.UTF_8));
+
+        // When
+        String encryptedPassword = passwordEncryptor.encrypt(plainPassword, salt);
+
+        // Then
+        assertThat(encryptedPassword).isEqualTo(Base64.getEncoder().encodeToString(concatenatedHash));
+    }
+
+    @Test
+    @DisplayName("올바른 비밀번호만 저장된 암호화 값과 일치하면 성공")
+    void matchesOnlyCorrectPassword() {
+        // Given
+        String salt = "randomSalt";
+        String encryptedPassword = passwordEncryptor.encrypt("password123", salt);
+
+        // When & Then
+        assertThat(passwordEncryptor.matches("password123", salt, encryptedPassword)).isTrue();
+        assertThat(passwordEncryptor.matches("password124", salt, encryptedPassword)).isFalse();
+        assertThat(passwordEncryptor.matches("password123", "otherSalt", encryptedPassword)).isFalse();
+        assertThat(passwordEncryptor.matches("password123", salt, "Base64가 아닌 값")).isFalse();
+    }
+
+    @Test
+    @DisplayName("64개 스레드가 동시에 암호화해도 단일 스레드와 같은 값을 반환하면 성공")
+    void encryptIsThreadSafe() throws Exception {
+        // Given
+        int threadCount = 64;
+        int iterations = 500;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        // When
+        for (int thread = 0; thread < threadCount; thread++) {
+            String plainPassword = "password" + thread;
+            String salt = "salt" + thread;
+            String expected = passwordEncryptor.encrypt(plainPassword, salt);
+            results.add(executorService.submit(() -> {
+                startLatch.await();
+                for (int i = 0; i < iterations; i++) {
+                    if (!expected.equals(passwordEncryptor.encrypt(plainPassword, salt))
+                            || !passwordEncryptor.matches(plainPassword, salt, expected)) {
+                        return false;
+                    }
+                }
+                return true;
+            }));
+        }
+        startLatch.countDown();
+
+        // Then
+        for (Future<Boolean> result : results) {
+            assertThat(result.get(30, TimeUnit.SECONDS)).isTrue();
+        }
+        executorService.shutdown();
+    }
+
 }
@@ -0,0 +1,153 @@
+package friendy.community.domain.post.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import friendy.community.domain.post.dto.response.FindAllPostResponse;
+import friendy.community.global.cache.CacheInvalidationBroadcaster;
+import friendy.community.global.exception.ErrorCode;
+import friendy.community.global.exception.FriendyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class FeedPageCacheTest {
+
+    private final CacheInvalidationBroadcaster broadcaster = mock(CacheInvalidationBroadcaster.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    @SuppressWarnings("unchecked")
+    private final FeedPageCache feedPageCache = new FeedPageCache(
+            mock(RedisTemplate.class), mock(StringRedisTemplate.class), objectMapper, broadcaster, new SimpleMeterRegistry());
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(feedPageCache, "redisEnabled", false);
+        ReflectionTestUtils.setField(feedPageCache, "cachedPages", 3);
+        ReflectionTestUtils.setField(feedPageCache, "ttl", Duration.ofSeconds(30));
+        feedPageCache.initialize();
+    }
+
+    @Test
+    @DisplayName("앞쪽 페이지만 캐시 대상이다")
+    void onlyLeadingPagesAreCacheable() {
+        assertThat(feedPageCache.isCacheable(0)).isTrue();
+        assertThat(feedPageCache.isCacheable(2)).isTrue();
+        assertThat(feedPageCache.isCacheable(3)).isFalse();
+        assertThat(feedPageCache.isCacheable(-1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("페이지를 직렬화된 JSON 바이트로 반환한다")
+    void pageIsReturnedAsJsonBytes() throws Exception {
+        // Given
+        FindAllPostResponse response = new FindAllPostResponse(List.of(), 1, false, null);
+
+        // When
+        byte[] page = feedPageCache.getPage(0, () -> response);
+
+        // Then
+        assertThat(objectMapper.readValue(page, FindAllPostResponse.class)).isEqualTo(response);
+    }
+
+    @Test
+    @DisplayName("캐시 대상이 아닌 페이지도 직렬화된 JSON 바이트로 반환한다")
+    void uncacheablePageIsReturnedAsJsonBytes() throws Exception {
+        // Given
+        FindAllPostResponse response = new FindAllPostResponse(List.of(), 3, false, null);
+
+        // When
+        byte[] page = feedPageCache.getPage(3, () -> response);
+
+        // Then
+        assertThat(objectMapper.readValue(page, FindAllPostResponse.class)).isEqualTo(response);
+    }
+
+    @Test
+    @DisplayName("같은 페이지에 대한 동시 미스는 한 번만 조회한다")
+    void concurrentMissesAreCollapsed() throws Exception {
+        // Given
+        int threadCount = 8;
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+
+        // When
+        List<Future<byte[]>> results = new ArrayList<>();
+        results.add(executor.submit(() -> feedPageCache.getPage(0, () -> {
+            loadCount.incrementAndGet();
+            loaderStarted.countDown();
+            await(releaseLoader);
+            return new FindAllPostResponse(List.of(), 1, false, null);
+        })));
+        loaderStarted.await(5, TimeUnit.SECONDS);
+        for (int i = 1; i < threadCount; i++) {
+            results.add(executor.submit(() -> feedPageCache.getPage(0, () -> {
+                loadCount.incrementAndGet();
+                return new FindAllPostResponse(List.of(), 1, false, null);
+            })));
+        }
+        Thread.sleep(300);
+        releaseLoader.countDown();
+
+        // Then
+        byte[] first = results.get(0).get(5, TimeUnit.SECONDS);
+        for (Future<byte[]> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(first);
+        }
+        assertThat(loadCount.get()).isEqualTo(1);
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("조회 중 발생한 예외는 그대로 전달되고 캐시에 남지 않는다")
+    void loaderFailureIsPropagated() {
+        // When & Then
+        assertThatThrownBy(() -> feedPageCache.getPage(1, () -> {
+            throw new FriendyException(ErrorCode.RESOURCE_NOT_FOUND, "요청한 페이지가 존재하지 않습니다.");
+        }))
+                .isInstanceOf(FriendyException.class)
+                .hasMessageContaining("요청한 페이지가 존재하지 않습니다.");
+
+        FindAllPostResponse response = new FindAllPostResponse(List.of(), 1, false, null);
+        assertThat(feedPageCache.getPage(1, () -> response)).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("무효화하면 버전을 올리고 다른 노드에 새 버전을 알린다")
+    void invalidateBroadcastsNewVersion() {
+        // When
+        feedPageCache.invalidateAfterCommit();
+
+        // Then
+        verify(broadcaster).broadcast(anyString(), eq("1"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,110 @@
+package friendy.community.domain.post.cache;
+
+import friendy.community.domain.post.dto.response.FindMemberResponse;
+import friendy.community.domain.post.dto.response.FindPostResponse;
+import friendy.community.domain.post.dto.response.VersionedPostResponse;
+import friendy.community.global.cache.CacheInvalidationBroadcaster;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class PostCacheTest {
+
+    private final CacheInvalidationBroadcaster broadcaster = mock(CacheInvalidationBroadcaster.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PostCache postCache = new PostCache(broadcaster, meterRegistry);
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(postCache, "maximumBytes", 1024L * 1024);
+        ReflectionTestUtils.setField(postCache, "ttl", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(postCache, "ttlJitter", 0.2);
+        postCache.initialize();
+    }
+
+    private VersionedPostResponse load(Long postId) {
+        loadCount.incrementAndGet();
+        return new VersionedPostResponse(new FindPostResponse(postId, "content", "2025-01-23T10:00:00", 0, 0, 0, 0L,
+                new FindMemberResponse(1L, "author"), List.of("프렌디")), LocalDateTime.of(2025, 1, 23, 10, 0));
+    }
+
+    @Test
+    @DisplayName("한 번 조회한 게시글은 다시 조회하지 않고 캐시에서 반환한다")
+    void cachedPostIsReturnedWithoutLoading() {
+        // Given
+        postCache.get(1L, this::load);
+
+        // When
+        VersionedPostResponse post = postCache.get(1L, this::load);
+
+        // Then
+        assertThat(post.post().id()).isEqualTo(1L);
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "post").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.estimated.bytes").tag("cache", "post").gauge().value())
+                .isPositive();
+    }
+
+    @Test
+    @DisplayName("게시글을 제거하면 다시 조회하고 다른 노드에 무효화 메시지를 보낸다")
+    void evictReloadsAndBroadcasts() {
+        // Given
+        postCache.get(1L, this::load);
+        postCache.get(2L, this::load);
+
+        // When
+        postCache.evict(List.of(1L, 2L));
+        postCache.get(1L, this::load);
+
+        // Then
+        assertThat(loadCount.get()).isEqualTo(3);
+        verify(broadcaster).broadcast(anyString(), eq("1,2"));
+    }
+
+    @Test
+    @DisplayName("적재 중에 무효화가 일어나면 읽어 둔 값을 캐시에 넣지 않는다")
+    void postLoadedBeforeEvictionIsNotCached() {
+        // Given
+        postCache.get(1L, postId -> {
+            VersionedPostResponse stalePost = load(postId);
+            postCache.evict(List.of(postId));
+            return stalePost;
+        });
+
+        // When
+        postCache.get(1L, this::load);
+
+        // Then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지를 받으면 로컬 캐시를 비운다")
+    void invalidationMessageEvictsLocalCache() {
+        // Given
+        postCache.get(1L, this::load);
+
+        // When
+        postCache.onInvalidation("1");
+        postCache.get(1L, this::load);
+
+        // Then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+}
@@ -1,11 +1,17 @@
 package friendy.community.domain.post.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import friendy.community.domain.post.cache.FeedPageCache;
+import friendy.community.domain.post.dto.request.PostBatchDeleteRequest;
 import friendy.community.domain.post.dto.request.PostCreateRequest;
 import friendy.community.domain.post.dto.request.PostUpdateRequest;
+import friendy.community.domain.post.dto.response.DeletePostsResponse;
 import friendy.community.domain.post.dto.response.FindAllPostResponse;
 import friendy.community.domain.post.dto.response.FindMemberResponse;
 import friendy.community.domain.post.dto.response.FindPostResponse;
+import friendy.community.domain.post.dto.response.VersionedPostResponse;
+import friendy.community.domain.post.service.PostBatchService;
+import friendy.community.domain.post.service.PostLikeService;
 import friendy.community.domain.post.service.PostService;
 import friendy.community.global.exception.ErrorCode;
 import friendy.community.global.exception.FriendyException;
@@ -19,10 +25,15 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -37,13 +48,29 @@ class PostControllerTest {
     private ObjectMapper objectMapper;
     @MockitoBean
     private PostService postService;
+    @MockitoBean
+    private PostBatchService postBatchService;
+    @MockitoBean
+    private PostLikeService postLikeService;
+    @MockitoBean
+    private FeedPageCache feedPageCache;
 
     private static final String BASE_URL = "/posts";
+    private static final VersionedPostResponse VERSIONED_POST = new VersionedPostResponse(
+            new FindPostResponse(1L, "Post 1", "2025-01-23T10:00:00", 10, 5, 2, 100L, new FindMemberResponse(1L, "author1"), List.of("프렌디")),
+            LocalDateTime.of(2025, 1, 23, 10, 0));
 
     private String generateLongContent(int length) {
         return "a".repeat(length);
     }
 
+    private void loadFeedPagesWithoutCaching() {
+        when(feedPageCache.getPage(anyInt(), any())).thenAnswer(invocation -> {
+            Supplier<FindAllPostResponse> loader = invocation.getArgument(1);
+            return objectMapper.writeValueAsBytes(loader.get());
+        });
+    }
+
     @Test
     @DisplayName("게시글 생성 성공 시 201 Created 응답")
     void createPostSuccessfullyReturns201Created() throws Exception {
@@ -132,19 +159,89 @@ class PostControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    @DisplayName("게시글 좋아요 성공 시 200 OK 응답")
+    void likePostSuccessfullyReturns200Ok() throws Exception {
+        // Given
+        Long postId = 1L;
+        doNothing().when(postLikeService).likePost(any(HttpServletRequest.class), eq(postId));
+
+        // When & Then
+        mockMvc.perform(post(BASE_URL + "/{postId}/likes", postId))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("이미 좋아요한 게시글에 다시 좋아요하면 409 Conflict 응답")
+    void likePostTwiceReturns409Conflict() throws Exception {
+        // Given
+        Long postId = 1L;
+        doThrow(new FriendyException(ErrorCode.DUPLICATE_LIKE, "이미 좋아요한 게시글입니다."))
+                .when(postLikeService).likePost(any(HttpServletRequest.class), eq(postId));
+
+        // When & Then
+        mockMvc.perform(post(BASE_URL + "/{postId}/likes", postId))
+                .andDo(print())
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.detail").value("이미 좋아요한 게시글입니다."));
+    }
+
+    @Test
+    @DisplayName("게시글 좋아요 취소 성공 시 200 OK 응답")
+    void unlikePostSuccessfullyReturns200Ok() throws Exception {
+        // Given
+        Long postId = 1L;
+        doNothing().when(postLikeService).unlikePost(any(HttpServletRequest.class), eq(postId));
+
+        // When & Then
+        mockMvc.perform(delete(BASE_URL + "/{postId}/likes", postId))
+                .andExpect(status().isOk());
+    }
+
     @Test
     @DisplayName("게시글 조회 성공 시 200 OK 및 게시글 반환")
     void getPostSuccessfullyReturns200Ok() throws Exception {
         // Given
         Long postId = 1L;
-        FindPostResponse response = new FindPostResponse(1L, "Post 1", "2025-01-23T10:00:00", 10, 5, 2, new FindMemberResponse(1L, "author1"));
-        when(postService.getPost(anyLong())).thenReturn(response);
+        when(postService.getVersionedPost(anyLong(), any(HttpServletRequest.class))).thenReturn(VERSIONED_POST);
 
         // When & Then
         mockMvc.perform(get(BASE_URL + "/{postId}", postId)
                         .contentType(MediaType.APPLICATION_JSON))
                 .andDo(print())
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", VERSIONED_POST.eTag()))
+                .andExpect(header().doesNotExist("Last-Modified"))
+                .andExpect(jsonPath("$.hashtags[0]").value("프렌디"));
+    }
+
+    @Test
+    @DisplayName("ETag가 일치하면 게시글 본문 없이 304 Not Modified 반환")
+    void getPostWithMatchingETagReturns304NotModified() throws Exception {
+        // Given
+        when(postService.getVersionedPost(anyLong(), any(HttpServletRequest.class))).thenReturn(VERSIONED_POST);
+
+        // When & Then
+        mockMvc.perform(get(BASE_URL + "/{postId}", 1L)
+                        .header("If-None-Match", VERSIONED_POST.eTag()))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("If-Modified-Since 만 보내면 카운터 변경을 놓치지 않도록 본문과 함께 200 OK 반환")
+    void getPostWithOnlyIfModifiedSinceReturns200Ok() throws Exception {
+        // Given
+        when(postService.getVersionedPost(anyLong(), any(HttpServletRequest.class))).thenReturn(VERSIONED_POST);
+
+        // When & Then
+        mockMvc.perform(get(BASE_URL + "/{postId}", 1L)
+                        .header("If-Modified-Since", VERSIONED_POST.modifiedDate().plusYears(1)
+                                .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1L));
     }
 
     @Test
@@ -152,7 +249,7 @@ class PostControllerTest {
     void getPostWithNonExistentIdReturns404NotFound() throws Exception {
         // Given
         Long nonExistentPostId = 999L;
-        when(postService.getPost(anyLong())).thenThrow(new FriendyException(ErrorCode.RESOURCE_NOT_FOUND, "존재하지 않는 게시글입니다."));
+        when(postService.getVersionedPost(anyLong(), any(HttpServletRequest.class))).thenThrow(new FriendyException(ErrorCode.RESOURCE_NOT_FOUND, "존재하지 않는 게시글입니다."));
 
         // When & Then
         mockMvc.perform(get(BASE_URL + "/{postId}", nonExistentPostId)
@@ -167,15 +264,82 @@ class PostControllerTest {
     void getPostsListSuccessfullyReturns200Ok() throws Exception {
         // Given
         List<FindPostResponse> posts = List.of(
-                new FindPostResponse(1L, "Post 1", "2025-01-23T10:00:00", 10, 5, 2, new FindMemberResponse(1L, "author1")),
-                new FindPostResponse(2L, "Post 2", "2025-01-23T11:00:00", 20, 10, 3, new FindMemberResponse(2L, "author2"))
+                new FindPostResponse(1L, "Post 1", "2025-01-23T10:00:00", 10, 5, 2, 100L, new FindMemberResponse(1L, "author1"), List.of("프렌디")),
+                new FindPostResponse(2L, "Post 2", "2025-01-23T11:00:00", 20, 10, 3, 100L, new FindMemberResponse(2L, "author2"), List.of("프렌디"))
         );
         when(postService.getAllPosts(any(Pageable.class)))
-                .thenReturn(new FindAllPostResponse(posts, 1));
+                .thenReturn(new FindAllPostResponse(posts, 1, false, null));
+        loadFeedPagesWithoutCaching();
 
         // When & Then
         mockMvc.perform(get(BASE_URL + "/list").param("page", "0"))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.posts[1].content").value("Post 2"));
+    }
+
+    @Test
+    @DisplayName("캐시된 피드 페이지는 직렬화된 응답을 그대로 반환한다")
+    void getCachedPostsListReturnsSerializedPage() throws Exception {
+        // Given
+        List<FindPostResponse> posts = List.of(
+                new FindPostResponse(1L, "Post 1", "2025-01-23T10:00:00", 10, 5, 2, 100L, new FindMemberResponse(1L, "author1"), List.of("프렌디"))
+        );
+        byte[] cachedPage = objectMapper.writeValueAsBytes(new FindAllPostResponse(posts, 1, false, null));
+        when(feedPageCache.getPage(eq(0), any())).thenReturn(cachedPage);
+
+        // When & Then
+        mockMvc.perform(get(BASE_URL + "/list").param("page", "0"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.posts[0].content").value("Post 1"));
+        verify(postService, never()).getAllPosts(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("피드 ETag가 일치하면 304 Not Modified 반환")
+    void getPostsListWithMatchingETagReturns304NotModified() throws Exception {
+        // Given
+        when(feedPageCache.currentETag()).thenReturn("\"feed-1-1\"");
+
+        // When & Then
+        mockMvc.perform(get(BASE_URL + "/list").param("page", "0")
+                        .header("If-None-Match", "\"feed-1-1\""))
+                .andDo(print())
+                .andExpect(status().isNotModified());
+        verify(postService, never()).getAllPosts(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("커서로 게시글 목록 조회 성공 시 200 OK 및 다음 커서 반환")
+    void getPostsListByCursorSuccessfullyReturns200Ok() throws Exception {
+        // Given
+        List<FindPostResponse> posts = List.of(
+                new FindPostResponse(1L, "Post 1", "2025-01-23T10:00:00", 10, 5, 2, 100L, new FindMemberResponse(1L, "author1"), List.of("프렌디"))
+        );
+        when(postService.getAllPostsByCursor(anyString()))
+                .thenReturn(new FindAllPostResponse(posts, null, true, "nextCursor"));
+
+        // When & Then
+        mockMvc.perform(get(BASE_URL + "/list").param("cursor", "cursor"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor").value("nextCursor"));
+    }
+
+    @Test
+    @DisplayName("잘못된 커서로 게시글 목록 조회 시 400 Bad Request 반환")
+    void getPostsListWithInvalidCursorReturns400BadRequest() throws Exception {
+        // Given
+        when(postService.getAllPostsByCursor(anyString()))
+                .thenThrow(new FriendyException(ErrorCode.INVALID_REQUEST, "잘못된 커서입니다."));
+
+        // When & Then
+        mockMvc.perform(get(BASE_URL + "/list").param("cursor", "invalid"))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("잘못된 커서입니다."));
     }
 
     @Test
@@ -184,6 +348,7 @@ class PostControllerTest {
         // Given
         when(postService.getAllPosts(any(Pageable.class)))
                 .thenThrow(new FriendyException(ErrorCode.RESOURCE_NOT_FOUND, "요청한 페이지가 존재하지 않습니다."));
+        loadFeedPagesWithoutCaching();
 
         // When & Then
         mockMvc.perform(get(BASE_URL + "/list").param("page", "100"))
@@ -191,4 +356,67 @@ class PostControllerTest {
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.detail").value("요청한 페이지가 존재하지 않습니다."));
     }
+
+    @Test
+    @DisplayName("게시글 일괄 삭제 성공 시 200 OK와 삭제된 게시글 수 반환")
+    void deletePostsSuccessfullyReturns200Ok() throws Exception {
+        // Given
+        PostBatchDeleteRequest request = new PostBatchDeleteRequest(List.of(1L, 2L, 3L));
+        when(postBatchService.deletePosts(any(HttpServletRequest.class), eq(List.of(1L, 2L, 3L))))
+                .thenReturn(new DeletePostsResponse(3));
+
+        // When & Then
+        mockMvc.perform(post(BASE_URL + "/batch-delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deletedCount").value(3));
+    }
+
+    @Test
+    @DisplayName("삭제할 게시글 없이 일괄 삭제 요청 시 400 Bad Request 반환")
+    void deletePostsWithoutPostIdsReturns400BadRequest() throws Exception {
+        // Given
+        PostBatchDeleteRequest request = new PostBatchDeleteRequest(List.of());
+
+        // When & Then
+        mockMvc.perform(post(BASE_URL + "/batch-delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("내 게시글 전체 삭제 성공 시 200 OK와 삭제된 게시글 수 반환")
+    void deleteMyPostsSuccessfullyReturns200Ok() throws Exception {
+        // Given
+        when(postBatchService.deleteAllPostsOfMember(any(HttpServletRequest.class)))
+                .thenReturn(new DeletePostsResponse(5));
+
+        // When & Then
+        mockMvc.perform(delete(BASE_URL + "/me"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deletedCount").value(5));
+    }
+
+    @Test
+    @DisplayName("해시태그별 게시글 목록 조회 성공 시 200 OK 및 다음 커서 반환")
+    void getPostsByHashtagSuccessfullyReturns200Ok() throws Exception {
+        // Given
+        List<FindPostResponse> posts = List.of(
+                new FindPostResponse(1L, "Post 1", "2025-01-23T10:00:00", 10, 5, 2, 100L, new FindMemberResponse(1L, "author1"), List.of("프렌디"))
+        );
+        when(postService.getPostsByHashtag(eq("프렌디"), isNull()))
+                .thenReturn(new FindAllPostResponse(posts, null, true, "1"));
+
+        // When & Then
+        mockMvc.perform(get(BASE_URL).param("hashtag", "프렌디"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.posts[0].id").value(1))
+                .andExpect(jsonPath("$.nextCursor").value("1"));
+    }
 }
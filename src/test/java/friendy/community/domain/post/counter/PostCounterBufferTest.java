@@ -0,0 +1,219 @@
+package friendy.community.domain.post.counter;
+
+import friendy.community.domain.member.dto.request.MemberSignUpRequest;
+import friendy.community.domain.member.fixture.MemberFixture;
+import friendy.community.domain.member.model.Member;
+import friendy.community.domain.member.service.MemberService;
+import friendy.community.domain.post.cache.PostCache;
+import friendy.community.domain.post.dto.request.PostCreateRequest;
+import friendy.community.domain.post.dto.response.FindPostResponse;
+import friendy.community.domain.post.model.Post;
+import friendy.community.domain.post.repository.PostCounterJdbcRepository;
+import friendy.community.domain.post.repository.PostRepository;
+import friendy.community.domain.post.service.PostService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static friendy.community.domain.auth.fixtures.TokenFixtures.CORRECT_ACCESS_TOKEN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+@Transactional
+@DirtiesContext
+class PostCounterBufferTest {
+
+    @Autowired
+    private PostCounterBuffer postCounterBuffer;
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        Member member = MemberFixture.memberFixture();
+        memberService.signUp(new MemberSignUpRequest(
+                member.getEmail(), member.getNickname(), member.getPassword(), member.getBirthDate()));
+        MockHttpServletRequest httpServletRequest = new MockHttpServletRequest();
+        httpServletRequest.addHeader("Authorization", CORRECT_ACCESS_TOKEN);
+        postId = postService.savePost(new PostCreateRequest("게시글 내용", List.of("프렌디")), httpServletRequest);
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("반영 전에는 증감분을 더해 조회하고, 반영 후에는 DB에 저장된다")
+    void pendingDeltasAreMergedAndFlushed() {
+        // Given
+        postCounterBuffer.increment(postId, PostCounterType.LIKE);
+        postCounterBuffer.increment(postId, PostCounterType.LIKE);
+        postCounterBuffer.increment(postId, PostCounterType.LIKE);
+        postCounterBuffer.decrement(postId, PostCounterType.LIKE);
+
+        // When
+        FindPostResponse beforeFlush = postService.getPost(postId);
+        postCounterBuffer.flush();
+        entityManager.clear();
+
+        // Then
+        Post post = postRepository.findById(postId).orElseThrow();
+        assertThat(beforeFlush.likeCount()).isEqualTo(2);
+        assertThat(post.getLikeCount()).isEqualTo(2);
+        assertThat(postCounterBuffer.getPending(postId).isZero()).isTrue();
+        assertThat(postService.getPost(postId).likeCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("카운터는 0 아래로 내려가지 않는다")
+    void countersDoNotGoBelowZero() {
+        // Given
+        postCounterBuffer.decrement(postId, PostCounterType.LIKE);
+
+        // When
+        postCounterBuffer.flush();
+        entityManager.clear();
+
+        // Then
+        assertThat(postRepository.findById(postId).orElseThrow().getLikeCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 증감분은 다음 주기를 위해 되돌려 둔다")
+    void failedFlushRestoresDeltas() {
+        // Given
+        TransactionTemplate failingTransactionTemplate = mock(TransactionTemplate.class);
+        doThrow(new DataAccessResourceFailureException("DB 연결 실패"))
+                .when(failingTransactionTemplate).executeWithoutResult(any());
+        PostCounterBuffer buffer = new PostCounterBuffer(
+                mock(PostCounterJdbcRepository.class), failingTransactionTemplate, mock(PostCache.class), new SimpleMeterRegistry(),
+                mock(StringRedisTemplate.class));
+        buffer.initialize();
+        buffer.increment(1L, PostCounterType.SHARE);
+
+        // When
+        buffer.flush();
+
+        // Then
+        assertThat(buffer.getPending(1L).shareDelta()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("트랜잭션을 열지 못하면 실패한 묶음부터 남은 묶음까지의 증감분을 모두 되돌린다")
+    void failedTransactionRestoresRemainingChunks() {
+        // Given
+        TransactionTemplate failingTransactionTemplate = mock(TransactionTemplate.class);
+        doNothing()
+                .doThrow(new CannotCreateTransactionException("커넥션 획득 실패"))
+                .when(failingTransactionTemplate).executeWithoutResult(any());
+        PostCounterBuffer buffer = new PostCounterBuffer(
+                mock(PostCounterJdbcRepository.class), failingTransactionTemplate, mock(PostCache.class), new SimpleMeterRegistry(),
+                mock(StringRedisTemplate.class));
+        buffer.initialize();
+        for (long postId = 1; postId <= 1001; postId++) {
+            buffer.increment(postId, PostCounterType.LIKE);
+        }
+
+        // When
+        buffer.flush();
+
+        // Then
+        assertThat(buffer.getPending(500L).likeDelta()).isZero();
+        assertThat(buffer.getPending(501L).likeDelta()).isEqualTo(1);
+        assertThat(buffer.getPending(1001L).likeDelta()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Redis 를 쓸 수 있으면 반영에 실패한 증감분을 메모리 대신 Redis 해시에 넘긴다")
+    void failedFlushSpillsDeltasToRedis() {
+        // Given
+        TransactionTemplate failingTransactionTemplate = mock(TransactionTemplate.class);
+        doThrow(new CannotCreateTransactionException("커넥션 획득 실패"))
+                .when(failingTransactionTemplate).executeWithoutResult(any());
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        HashOperations<String, Object, Object> hashOperations = mock(HashOperations.class);
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        PostCounterBuffer buffer = redisBackedBuffer(
+                mock(PostCounterJdbcRepository.class), failingTransactionTemplate, redisTemplate);
+        buffer.increment(1L, PostCounterType.LIKE);
+        buffer.increment(1L, PostCounterType.LIKE);
+        buffer.increment(2L, PostCounterType.SHARE);
+
+        // When
+        buffer.flush();
+
+        // Then
+        verify(hashOperations).increment("post:counter:spilled", "1:like", 2L);
+        verify(hashOperations).increment("post:counter:spilled", "2:share", 1L);
+        assertThat(buffer.getPending(1L).isZero()).isTrue();
+        assertThat(buffer.getPending(2L).isZero()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Redis 에 넘겨 둔 증감분은 다음 반영 때 메모리의 증감분과 합쳐 반영한다")
+    void spilledDeltasAreTakenAndApplied() {
+        // Given
+        PostCounterJdbcRepository postCounterJdbcRepository = mock(PostCounterJdbcRepository.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Consumer.class).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        when(redisTemplate.execute(any(RedisScript.class), anyList()))
+                .thenReturn(List.of("1:like", "3", "2:share", "-1"));
+        PostCounterBuffer buffer = redisBackedBuffer(postCounterJdbcRepository, transactionTemplate, redisTemplate);
+        buffer.increment(1L, PostCounterType.LIKE);
+
+        // When
+        buffer.flush();
+
+        // Then
+        verify(postCounterJdbcRepository).applyDeltas(List.of(
+                new PostCounterDelta(1L, 4, 0),
+                new PostCounterDelta(2L, 0, -1)));
+    }
+
+    private PostCounterBuffer redisBackedBuffer(
+            PostCounterJdbcRepository postCounterJdbcRepository,
+            TransactionTemplate transactionTemplate,
+            StringRedisTemplate redisTemplate
+    ) {
+        PostCounterBuffer buffer = new PostCounterBuffer(
+                postCounterJdbcRepository, transactionTemplate, mock(PostCache.class), new SimpleMeterRegistry(), redisTemplate);
+        ReflectionTestUtils.setField(buffer, "redisEnabled", true);
+        buffer.initialize();
+        return buffer;
+    }
+
+}
@@ -0,0 +1,45 @@
+package friendy.community.domain.post.counter;
+
+import friendy.community.domain.post.repository.PostQueryDSLRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PostTotalCounterTest {
+
+    private final PostQueryDSLRepository postQueryDSLRepository = mock(PostQueryDSLRepository.class);
+    private final PostTotalCounter postTotalCounter = new PostTotalCounter(postQueryDSLRepository);
+
+    @Test
+    @DisplayName("재동기화하면 DB의 게시글 수로 초기화되고 이후 증감이 반영된다")
+    void resyncThenIncrementAndDecrement() {
+        // Given
+        when(postQueryDSLRepository.countAllPosts()).thenReturn(10L);
+        postTotalCounter.resync();
+
+        // When
+        postTotalCounter.increment();
+        postTotalCounter.decrement(3);
+
+        // Then
+        assertThat(postTotalCounter.getApproximateTotal()).isEqualTo(8L);
+    }
+
+    @Test
+    @DisplayName("감소량이 현재 값보다 커도 0 미만으로 내려가지 않는다")
+    void decrementNeverGoesBelowZero() {
+        // Given
+        when(postQueryDSLRepository.countAllPosts()).thenReturn(1L);
+        postTotalCounter.resync();
+
+        // When
+        postTotalCounter.decrement(5);
+
+        // Then
+        assertThat(postTotalCounter.getApproximateTotal()).isZero();
+    }
+
+}
@@ -0,0 +1,127 @@
+package friendy.community.domain.post.like;
+
+import friendy.community.domain.post.repository.PostLikeJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class PostLikeWriterTest {
+
+    private final PostLikeJdbcRepository postLikeJdbcRepository = mock(PostLikeJdbcRepository.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+
+    @SuppressWarnings("unchecked")
+    private void executeTransactionsInline() {
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Consumer.class).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    private PostLikeWriter createWriter() {
+        executeTransactionsInline();
+        PostLikeWriter writer = new PostLikeWriter(postLikeJdbcRepository, transactionTemplate, new SimpleMeterRegistry());
+        writer.initialize();
+        return writer;
+    }
+
+    @Test
+    @DisplayName("한 주기 안의 같은 회원 변경분은 마지막 상태만 반영한다")
+    void flushAppliesLatestChangePerMember() {
+        // Given
+        PostLikeWriter writer = createWriter();
+        writer.enqueue(new PostLikeChange(1L, 10L, true));
+        writer.enqueue(new PostLikeChange(1L, 10L, false));
+        writer.enqueue(new PostLikeChange(1L, 20L, true));
+        writer.enqueue(new PostLikeChange(1L, 10L, true));
+
+        // When
+        writer.flush();
+
+        // Then
+        verify(postLikeJdbcRepository).insertLikes(List.of(
+                new PostLikeChange(1L, 10L, true), new PostLikeChange(1L, 20L, true)));
+        verify(postLikeJdbcRepository, never()).deleteLikes(any());
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 변경분은 다음 주기에 다시 반영한다")
+    void failedChangesAreRetried() {
+        // Given
+        PostLikeWriter writer = createWriter();
+        doThrow(new DataAccessResourceFailureException("DB 연결 실패"))
+                .doNothing()
+                .when(postLikeJdbcRepository).deleteLikes(any());
+        writer.enqueue(new PostLikeChange(1L, 10L, false));
+        writer.flush();
+
+        // When
+        writer.flush();
+
+        // Then
+        verify(postLikeJdbcRepository, times(2))
+                .deleteLikes(List.of(new PostLikeChange(1L, 10L, false)));
+    }
+
+    @Test
+    @DisplayName("트랜잭션을 열지 못하면 실패한 묶음부터 남은 묶음까지 다음 주기에 다시 반영한다")
+    void failedTransactionRequeuesRemainingChunks() {
+        // Given
+        PostLikeWriter writer = createWriter();
+        for (long memberId = 1; memberId <= 1001; memberId++) {
+            writer.enqueue(new PostLikeChange(1L, memberId, true));
+        }
+        doThrow(new CannotCreateTransactionException("커넥션 획득 실패"))
+                .when(transactionTemplate).executeWithoutResult(any());
+        writer.flush();
+        List<List<PostLikeChange>> retried = new ArrayList<>();
+        doAnswer(invocation -> {
+            List<PostLikeChange> likes = invocation.getArgument(0);
+            retried.add(List.copyOf(likes));
+            return null;
+        }).when(postLikeJdbcRepository).insertLikes(any());
+        executeTransactionsInline();
+
+        // When
+        writer.flush();
+
+        // Then
+        assertThat(retried.stream().mapToInt(List::size).sum()).isEqualTo(1001);
+    }
+
+    @Test
+    @DisplayName("게시글의 대기 중인 변경분은 실패해 다시 기다리는 변경분까지 오래된 순으로 반환한다")
+    void pendingChangesIncludeFailedChanges() {
+        // Given
+        PostLikeWriter writer = createWriter();
+        doThrow(new DataAccessResourceFailureException("DB 연결 실패"))
+                .when(postLikeJdbcRepository).insertLikes(any());
+        writer.enqueue(new PostLikeChange(1L, 10L, true));
+        writer.enqueue(new PostLikeChange(2L, 10L, true));
+        writer.flush();
+
+        // When
+        writer.enqueue(new PostLikeChange(1L, 10L, false));
+
+        // Then
+        assertThat(writer.getPendingChanges(1L)).containsExactly(
+                new PostLikeChange(1L, 10L, true), new PostLikeChange(1L, 10L, false));
+    }
+
+}
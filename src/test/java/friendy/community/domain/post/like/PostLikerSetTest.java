@@ -0,0 +1,138 @@
+package friendy.community.domain.post.like;
+
+import friendy.community.domain.post.repository.PostLikeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostLikerSetTest {
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final SetOperations<String, String> setOperations = mock(SetOperations.class);
+    private final PostLikeRepository postLikeRepository = mock(PostLikeRepository.class);
+    private final PostLikeWriter postLikeWriter = mock(PostLikeWriter.class);
+    private final PostLikerSet postLikerSet = new PostLikerSet(redisTemplate, postLikeRepository, postLikeWriter);
+    private final AtomicBoolean loaded = new AtomicBoolean();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any()))
+                .thenAnswer(invocation -> loaded.get() ? 1L : -1L);
+        when(redisTemplate.renameIfAbsent(anyString(), anyString())).thenAnswer(invocation -> {
+            loaded.set(true);
+            return true;
+        });
+        ReflectionTestUtils.setField(postLikerSet, "redisEnabled", true);
+        ReflectionTestUtils.setField(postLikerSet, "ttl", Duration.ofDays(1));
+    }
+
+    @Test
+    @DisplayName("집합을 적재할 때 전체 반영을 기다리지 않고 이 게시글의 대기 중인 변경분을 합친다")
+    void loadMergesPendingChangesWithoutFlushing() {
+        // Given
+        when(postLikeRepository.findMemberIdsByPostId(1L)).thenReturn(List.of(10L, 20L));
+        when(postLikeWriter.getPendingChanges(1L)).thenReturn(List.of(
+                new PostLikeChange(1L, 20L, false), new PostLikeChange(1L, 30L, true)));
+
+        // When
+        PostLikerSet.Result result = postLikerSet.add(1L, 40L);
+
+        // Then
+        assertThat(result).isEqualTo(PostLikerSet.Result.CHANGED);
+        verify(postLikeWriter, never()).flush();
+        ArgumentCaptor<String[]> members = ArgumentCaptor.forClass(String[].class);
+        verify(setOperations, atLeastOnce()).add(startsWith("post:likers:1:loading:"), members.capture());
+        List<String> loadedMembers = members.getAllValues().stream().flatMap(Arrays::stream).toList();
+        assertThat(loadedMembers).contains("10", "30").doesNotContain("20");
+    }
+
+    @Test
+    @DisplayName("같은 게시글의 동시 적재는 한 번의 테이블 조회로 합친다")
+    void concurrentLoadsAreCollapsed() throws Exception {
+        // Given
+        int threadCount = 8;
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        when(postLikeWriter.getPendingChanges(1L)).thenReturn(List.of());
+        when(postLikeRepository.findMemberIdsByPostId(1L)).thenAnswer(invocation -> {
+            loaderStarted.countDown();
+            releaseLoader.await(5, TimeUnit.SECONDS);
+            return List.of(10L);
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+
+        // When
+        List<Future<PostLikerSet.Result>> results = new ArrayList<>();
+        results.add(executor.submit(() -> postLikerSet.add(1L, 100L)));
+        loaderStarted.await(5, TimeUnit.SECONDS);
+        for (int i = 1; i < threadCount; i++) {
+            long memberId = 100L + i;
+            results.add(executor.submit(() -> postLikerSet.add(1L, memberId)));
+        }
+        Thread.sleep(300);
+        releaseLoader.countDown();
+
+        // Then
+        for (Future<PostLikerSet.Result> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(PostLikerSet.Result.CHANGED);
+        }
+        verify(postLikeRepository, times(1)).findMemberIdsByPostId(1L);
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("집합을 무효화하면 키를 지워 다음 요청이 다시 적재하게 한다")
+    void invalidateDeletesLikerSet() {
+        // When
+        boolean invalidated = postLikerSet.invalidate(1L);
+
+        // Then
+        assertThat(invalidated).isTrue();
+        verify(redisTemplate).delete("post:likers:1");
+    }
+
+    @Test
+    @DisplayName("Redis 오류로 집합을 지우지 못하면 무효화에 실패한다")
+    void invalidateFailsWhenRedisIsUnavailable() {
+        // Given
+        doThrow(new DataAccessResourceFailureException("Redis 연결 실패"))
+                .when(redisTemplate).delete(anyString());
+
+        // When & Then
+        assertThat(postLikerSet.invalidate(1L)).isFalse();
+    }
+
+}
@@ -0,0 +1,97 @@
+package friendy.community.domain.post.service;
+
+import friendy.community.domain.hashtag.repository.PostHashtagRepository;
+import friendy.community.domain.member.dto.request.MemberSignUpRequest;
+import friendy.community.domain.member.fixture.MemberFixture;
+import friendy.community.domain.member.model.Member;
+import friendy.community.domain.member.service.MemberService;
+import friendy.community.domain.post.dto.request.PostCreateRequest;
+import friendy.community.domain.post.dto.response.DeletePostsResponse;
+import friendy.community.domain.post.repository.PostRepository;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static friendy.community.domain.auth.fixtures.TokenFixtures.CORRECT_ACCESS_TOKEN;
+import static friendy.community.domain.auth.fixtures.TokenFixtures.OTHER_USER_TOKEN;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@DirtiesContext
+class PostBatchServiceTest {
+
+    @Autowired
+    private PostBatchService postBatchService;
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private PostHashtagRepository postHashtagRepository;
+
+    private MockHttpServletRequest httpServletRequest;
+    private MockHttpServletRequest otherUserRequest;
+
+    @BeforeEach
+    void setup() {
+        Member member = MemberFixture.memberFixture();
+        memberService.signUp(new MemberSignUpRequest(
+                member.getEmail(), member.getNickname(), member.getPassword(), member.getBirthDate()));
+        memberService.signUp(new MemberSignUpRequest(
+                "user@example.com", "홍길동", "password123!", LocalDate.parse("2002-08-13")));
+
+        httpServletRequest = new MockHttpServletRequest();
+        httpServletRequest.addHeader("Authorization", CORRECT_ACCESS_TOKEN);
+        otherUserRequest = new MockHttpServletRequest();
+        otherUserRequest.addHeader("Authorization", OTHER_USER_TOKEN);
+    }
+
+    private Long createPost(MockHttpServletRequest request) {
+        return postService.savePost(new PostCreateRequest("게시글 내용", List.of("프렌디", "개발")), request);
+    }
+
+    @Test
+    @DisplayName("일괄 삭제 시 본인이 작성한 게시글과 해시태그 연결만 삭제된다")
+    void deletePostsOnlyDeletesOwnPosts() {
+        // Given
+        Long myPostId = createPost(httpServletRequest);
+        Long otherPostId = createPost(otherUserRequest);
+
+        // When
+        DeletePostsResponse response = postBatchService.deletePosts(httpServletRequest, List.of(myPostId, otherPostId));
+
+        // Then
+        assertThat(response.deletedCount()).isEqualTo(1);
+        assertThat(postRepository.findById(myPostId)).isEmpty();
+        assertThat(postRepository.findById(otherPostId)).isPresent();
+        assertThat(postHashtagRepository.findAll())
+                .allMatch(postHashtag -> postHashtag.getPost().getId().equals(otherPostId));
+    }
+
+    @Test
+    @DisplayName("내 게시글 전체 삭제 시 본인이 작성한 모든 게시글이 삭제된다")
+    void deleteAllPostsOfMemberDeletesEveryOwnPost() {
+        // Given
+        createPost(httpServletRequest);
+        createPost(httpServletRequest);
+        Long otherPostId = createPost(otherUserRequest);
+
+        // When
+        DeletePostsResponse response = postBatchService.deleteAllPostsOfMember(httpServletRequest);
+
+        // Then
+        assertThat(response.deletedCount()).isEqualTo(2);
+        assertThat(postRepository.findAll()).extracting("id").containsExactly(otherPostId);
+    }
+}
@@ -0,0 +1,165 @@
+package friendy.community.domain.post.service;
+
+import friendy.community.domain.member.dto.request.MemberSignUpRequest;
+import friendy.community.domain.member.fixture.MemberFixture;
+import friendy.community.domain.member.model.Member;
+import friendy.community.domain.auth.principal.AuthMember;
+import friendy.community.domain.auth.principal.AuthMemberResolver;
+import friendy.community.domain.member.repository.MemberRepository;
+import friendy.community.domain.member.service.MemberService;
+import friendy.community.domain.post.counter.PostCounterBuffer;
+import friendy.community.domain.post.dto.request.PostCreateRequest;
+import friendy.community.domain.post.like.PostLikeWriter;
+import friendy.community.domain.post.like.PostLikerSet;
+import friendy.community.domain.post.repository.PostLikeRepository;
+import friendy.community.domain.post.repository.PostRepository;
+import friendy.community.global.exception.ErrorCode;
+import friendy.community.global.exception.FriendyException;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static friendy.community.domain.auth.fixtures.TokenFixtures.CORRECT_ACCESS_TOKEN;
+import static friendy.community.domain.auth.fixtures.TokenFixtures.OTHER_USER_TOKEN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+@Transactional
+@DirtiesContext
+class PostLikeServiceTest {
+
+    @Autowired
+    private PostLikeService postLikeService;
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private PostBatchService postBatchService;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+    @Autowired
+    private PostCounterBuffer postCounterBuffer;
+
+    private MockHttpServletRequest httpServletRequest;
+    private MockHttpServletRequest otherUserRequest;
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        Member member = MemberFixture.memberFixture();
+        memberService.signUp(new MemberSignUpRequest(
+                member.getEmail(), member.getNickname(), member.getPassword(), member.getBirthDate()));
+        memberService.signUp(new MemberSignUpRequest(
+                "user@example.com", "홍길동", "password123!", LocalDate.parse("2002-08-13")));
+
+        httpServletRequest = new MockHttpServletRequest();
+        httpServletRequest.addHeader("Authorization", CORRECT_ACCESS_TOKEN);
+        otherUserRequest = new MockHttpServletRequest();
+        otherUserRequest.addHeader("Authorization", OTHER_USER_TOKEN);
+        postId = postService.savePost(new PostCreateRequest("게시글 내용", List.of("프렌디")), httpServletRequest);
+    }
+
+    @Test
+    @DisplayName("좋아요하면 좋아요가 저장되고 좋아요 수가 증가한다")
+    void likePostSavesLikeAndIncrementsCount() {
+        // When
+        postLikeService.likePost(httpServletRequest, postId);
+        postLikeService.likePost(otherUserRequest, postId);
+
+        // Then
+        assertThat(postLikeRepository.findMemberIdsByPostId(postId)).hasSize(2);
+        assertThat(postService.getPost(postId).likeCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 게시글에 다시 좋아요하면 예외가 발생하고 좋아요 수는 그대로다")
+    void likePostTwiceThrowsException() {
+        // Given
+        postLikeService.likePost(httpServletRequest, postId);
+
+        // When & Then
+        assertThatThrownBy(() -> postLikeService.likePost(httpServletRequest, postId))
+                .isInstanceOf(FriendyException.class)
+                .hasMessageContaining("이미 좋아요한 게시글입니다.");
+        assertThat(postCounterBuffer.getPending(postId).likeDelta()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("좋아요를 취소하면 좋아요가 삭제되고, 다시 취소하면 예외가 발생한다")
+    void unlikePostDeletesLike() {
+        // Given
+        postLikeService.likePost(httpServletRequest, postId);
+
+        // When
+        postLikeService.unlikePost(httpServletRequest, postId);
+
+        // Then
+        assertThat(postLikeRepository.findMemberIdsByPostId(postId)).isEmpty();
+        assertThat(postCounterBuffer.getPending(postId).likeDelta()).isZero();
+        assertThatThrownBy(() -> postLikeService.unlikePost(httpServletRequest, postId))
+                .isInstanceOf(FriendyException.class)
+                .hasMessageContaining("좋아요하지 않은 게시글입니다.");
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 게시글에 좋아요하면 예외가 발생한다")
+    void likeNonExistentPostThrowsException() {
+        // When & Then
+        assertThatThrownBy(() -> postLikeService.likePost(httpServletRequest, 999L))
+                .isInstanceOf(FriendyException.class)
+                .hasMessageContaining("존재하지 않는 게시글입니다.");
+    }
+
+    @Test
+    @DisplayName("좋아요가 있는 게시글도 삭제할 수 있다")
+    void deletePostWithLikes() {
+        // Given
+        postLikeService.likePost(otherUserRequest, postId);
+
+        // When
+        postBatchService.deletePosts(httpServletRequest, List.of(postId));
+
+        // Then
+        assertThat(postLikeRepository.findMemberIdsByPostId(postId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("좋아요 회원 집합을 쓸 수 없고 지울 수도 없으면 테이블에 반영하지 않고 503으로 거절한다")
+    void likePostRejectsWhenLikerSetCannotBeInvalidated() {
+        // Given
+        PostRepository postRepository = mock(PostRepository.class);
+        PostLikerSet postLikerSet = mock(PostLikerSet.class);
+        AuthMemberResolver authMemberResolver = mock(AuthMemberResolver.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(postRepository.existsById(1L)).thenReturn(true);
+        when(authMemberResolver.resolve(any())).thenReturn(new AuthMember(1L, "example@friendy.com"));
+        when(postLikerSet.add(1L, 1L)).thenReturn(PostLikerSet.Result.UNAVAILABLE);
+        when(postLikerSet.invalidate(1L)).thenReturn(false);
+        PostLikeService service = new PostLikeService(postRepository, mock(MemberRepository.class),
+                mock(PostLikeRepository.class), postLikerSet, mock(PostLikeWriter.class), mock(PostCounterBuffer.class),
+                authMemberResolver, transactionTemplate);
+
+        // When & Then
+        assertThatThrownBy(() -> service.likePost(httpServletRequest, 1L))
+                .isInstanceOf(FriendyException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.SERVICE_UNAVAILABLE);
+        verify(transactionTemplate, never()).execute(any());
+    }
+
+}
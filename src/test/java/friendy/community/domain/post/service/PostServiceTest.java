@@ -1,5 +1,6 @@
 package friendy.community.domain.post.service;
 
+import friendy.community.domain.auth.jwt.JwtTokenProvider;
 import friendy.community.domain.member.dto.request.MemberSignUpRequest;
 import friendy.community.domain.member.fixture.MemberFixture;
 import friendy.community.domain.member.model.Member;
@@ -9,6 +10,7 @@ import friendy.community.domain.post.dto.request.PostCreateRequest;
 import friendy.community.domain.post.dto.request.PostUpdateRequest;
 import friendy.community.domain.post.dto.response.FindAllPostResponse;
 import friendy.community.domain.post.dto.response.FindPostResponse;
+import friendy.community.domain.post.dto.response.VersionedPostResponse;
 import friendy.community.domain.post.fixture.PostFixture;
 import friendy.community.domain.post.model.Post;
 import friendy.community.domain.post.repository.PostRepository;
@@ -48,6 +50,8 @@ class PostServiceTest {
     private PostRepository postRepository;
     @Autowired
     private EntityManager entityManager;
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
 
     private Member member;
     private MockHttpServletRequest httpServletRequest;
@@ -90,6 +94,19 @@ class PostServiceTest {
         assertThat(postId).isEqualTo(1L);
     }
 
+    @Test
+    @DisplayName("탈퇴한 회원의 유효한 토큰으로 게시글 생성 시 예외 발생")
+    void throwsExceptionWhenMemberIdNotFound() {
+        // Given
+        httpServletRequest = new MockHttpServletRequest();
+        httpServletRequest.addHeader("Authorization", "Bearer " + jwtTokenProvider.generateAccessToken(999L, "ghost@friendy.com"));
+
+        // When & Then
+        assertThatThrownBy(() -> createPost())
+                .isInstanceOf(FriendyException.class)
+                .hasMessageContaining("존재하지 않는 회원입니다.");
+    }
+
     @Test
     @DisplayName("존재하지 않는 이메일로 게시글 생성 시 예외 발생")
     void throwsExceptionWhenEmailNotFound() {
@@ -201,6 +218,48 @@ class PostServiceTest {
         // Then
         assertThat(response).isNotNull();
         assertThat(response.content()).isEqualTo("This is a sample post content.");
+        assertThat(response.hashtags()).containsExactlyInAnyOrder("프렌디", "개발", "스터디");
+    }
+
+    @Test
+    @DisplayName("게시글 목록 조회 시 각 게시글의 해시태그를 함께 반환한다")
+    void getAllPostsReturnsHashtagsOfEachPost() {
+        // Given
+        createPost();
+        postService.savePost(new PostCreateRequest("해시태그 없는 게시글", List.of()), httpServletRequest);
+
+        // When
+        FindAllPostResponse response = postService.getAllPosts(PageRequest.of(0, 10));
+
+        // Then
+        assertThat(response.posts()).hasSize(2);
+        assertThat(response.posts().get(0).hashtags()).isEmpty();
+        assertThat(response.posts().get(1).hashtags()).containsExactlyInAnyOrder("프렌디", "개발", "스터디");
+    }
+
+    @Test
+    @DisplayName("게시글 조회 시 본문과 함께 수정 시각과 ETag를 반환한다")
+    void getVersionedPostReturnsModifiedDateAndETag() {
+        // Given
+        createPost();
+        entityManager.flush();
+
+        // When
+        VersionedPostResponse versionedPost = postService.getVersionedPost(1L, httpServletRequest);
+
+        // Then
+        assertThat(versionedPost.post().id()).isEqualTo(1L);
+        assertThat(versionedPost.modifiedDate()).isNotNull();
+        assertThat(versionedPost.eTag()).startsWith("\"post-1-");
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 게시글 버전 조회 시 예외 발생")
+    void getVersionedPostWithNonExistentIdThrowsException() {
+        // When & Then
+        assertThatThrownBy(() -> postService.getVersionedPost(999L, httpServletRequest))
+                .isInstanceOf(FriendyException.class)
+                .hasMessageContaining("존재하지 않는 게시글입니다.");
     }
 
     @Test
@@ -228,6 +287,56 @@ class PostServiceTest {
                 .containsExactlyInAnyOrder("This is a sample post content.", "This is a sample post content.");
     }
 
+    @Test
+    @DisplayName("게시글 목록 조회 시 다음 페이지 존재 여부와 예상 전체 페이지 수를 반환한다")
+    void getAllPostsReturnsHasNextAndApproximateTotalPages() {
+        // Given
+        for (int i = 0; i < 11; i++) {
+            createPost();
+        }
+
+        // When
+        FindAllPostResponse firstPage = postService.getAllPosts(PageRequest.of(0, 10));
+        FindAllPostResponse lastPage = postService.getAllPosts(PageRequest.of(1, 10));
+
+        // Then
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(firstPage.totalPages()).isGreaterThanOrEqualTo(2);
+        assertThat(lastPage.hasNext()).isFalse();
+        assertThat(lastPage.posts()).hasSize(1);
+        assertThat(lastPage.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("게시글 목록의 다음 커서로 이어지는 게시글을 조회한다")
+    void getAllPostsByCursorReturnsNextPosts() {
+        // Given
+        for (int i = 0; i < 11; i++) {
+            createPost();
+        }
+        FindAllPostResponse firstPage = postService.getAllPosts(PageRequest.of(0, 10));
+
+        // When
+        FindAllPostResponse nextPage = postService.getAllPostsByCursor(firstPage.nextCursor());
+
+        // Then
+        assertThat(firstPage.posts()).hasSize(10);
+        assertThat(firstPage.nextCursor()).isNotNull();
+        assertThat(nextPage.posts()).extracting(FindPostResponse::id).containsExactly(1L);
+        assertThat(nextPage.hasNext()).isFalse();
+        assertThat(nextPage.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 커서로 게시글 목록 조회 시 예외 발생")
+    void getAllPostsByInvalidCursorThrowsException() {
+        // When & Then
+        assertThatThrownBy(() -> postService.getAllPostsByCursor("invalid-cursor"))
+                .isInstanceOf(FriendyException.class)
+                .hasMessageContaining("잘못된 커서입니다.")
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_REQUEST);
+    }
+
     @Test
     @DisplayName("존재하지 않는 페이지 요청 시 예외 발생")
     void requestingNonExistentPageThrowsException() {
@@ -237,4 +346,40 @@ class PostServiceTest {
                 .hasMessageContaining("요청한 페이지가 존재하지 않습니다.")
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.RESOURCE_NOT_FOUND);
     }
+
+    @Test
+    @DisplayName("해시태그별 게시글 목록을 최신순으로 조회하고 다음 커서로 이어서 조회한다")
+    void getPostsByHashtagReturnsPostsWithNextCursor() {
+        // Given
+        for (int i = 0; i < 11; i++) {
+            createPost();
+        }
+        postService.savePost(new PostCreateRequest("다른 해시태그 게시글", List.of("여행")), httpServletRequest);
+
+        // When
+        FindAllPostResponse firstPage = postService.getPostsByHashtag("프렌디", null);
+        FindAllPostResponse nextPage = postService.getPostsByHashtag("프렌디", firstPage.nextCursor());
+
+        // Then
+        assertThat(firstPage.posts()).hasSize(10);
+        assertThat(firstPage.posts().get(0).id()).isEqualTo(11L);
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(nextPage.posts()).extracting(FindPostResponse::id).containsExactly(1L);
+        assertThat(nextPage.hasNext()).isFalse();
+        assertThat(nextPage.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 해시태그로 조회하면 빈 목록을 반환한다")
+    void getPostsByUnknownHashtagReturnsEmptyList() {
+        // Given
+        createPost();
+
+        // When
+        FindAllPostResponse response = postService.getPostsByHashtag("없는해시태그", null);
+
+        // Then
+        assertThat(response.posts()).isEmpty();
+        assertThat(response.hasNext()).isFalse();
+    }
 }
@@ -0,0 +1,151 @@
+package friendy.community.domain.post.view;
+
+import friendy.community.domain.post.repository.PostCounterJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.redis.core.HyperLogLogOperations;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostViewCounterTest {
+
+    private static final String VIEWED_POSTS_KEY = "post:views:dirty";
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final HyperLogLogOperations<String, String> hyperLogLogOperations = mock(HyperLogLogOperations.class);
+    @SuppressWarnings("unchecked")
+    private final SetOperations<String, String> setOperations = mock(SetOperations.class);
+    private final PostCounterJdbcRepository postCounterJdbcRepository = mock(PostCounterJdbcRepository.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final PostViewCounter postViewCounter = new PostViewCounter(
+            redisTemplate, postCounterJdbcRepository, transactionTemplate, new SimpleMeterRegistry());
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(redisTemplate.opsForHyperLogLog()).thenReturn(hyperLogLogOperations);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Consumer.class).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        ReflectionTestUtils.setField(postViewCounter, "redisEnabled", true);
+        ReflectionTestUtils.setField(postViewCounter, "bufferCapacity", 2);
+        ReflectionTestUtils.setField(postViewCounter, "ipHashSecret", "FriendyViewIpHashTestSecret");
+        postViewCounter.initialize();
+    }
+
+    @Test
+    @DisplayName("조회는 게시글별로 묶어 HyperLogLog 에 한 번에 추가한다")
+    void flushAddsViewersPerPost() {
+        // Given
+        postViewCounter.recordMemberView(1L, 10L);
+        postViewCounter.recordMemberView(1L, 10L);
+
+        // When
+        postViewCounter.flush();
+
+        // Then
+        verify(hyperLogLogOperations).add("post:views:1", "member:10");
+        verify(setOperations).add(VIEWED_POSTS_KEY, "1");
+    }
+
+    @Test
+    @DisplayName("비로그인 조회는 IP 를 해시해서 기록하고, 큐가 가득 차면 버린다")
+    void anonymousViewsAreHashedAndDroppedWhenFull() {
+        // Given
+        postViewCounter.recordAnonymousView(1L, "127.0.0.1");
+        postViewCounter.recordAnonymousView(1L, "127.0.0.2");
+        postViewCounter.recordAnonymousView(1L, "127.0.0.3");
+
+        // When
+        postViewCounter.flush();
+
+        // Then
+        verify(hyperLogLogOperations).add(eq("post:views:1"), anyString(), anyString());
+        verify(hyperLogLogOperations, never()).add(anyString(), eq("ip:127.0.0.1"));
+    }
+
+    @Test
+    @DisplayName("같은 IP 의 비로그인 조회는 같은 키로 기록되어 한 명으로 센다")
+    void sameAnonymousViewerIsHashedToSameKey() {
+        // Given
+        postViewCounter.recordAnonymousView(1L, "127.0.0.1");
+        postViewCounter.recordAnonymousView(1L, "127.0.0.1");
+
+        // When
+        postViewCounter.flush();
+
+        // Then
+        verify(hyperLogLogOperations).add(eq("post:views:1"), anyString());
+    }
+
+    @Test
+    @DisplayName("조회된 게시글의 근사 순 조회수를 DB 에 반영한다")
+    void foldAppliesApproximateViewCounts() {
+        // Given
+        when(setOperations.pop(eq(VIEWED_POSTS_KEY), anyLong())).thenReturn(List.of("1", "2"), List.of());
+        when(hyperLogLogOperations.size("post:views:1")).thenReturn(3L);
+        when(hyperLogLogOperations.size("post:views:2")).thenReturn(7L);
+
+        // When
+        postViewCounter.fold();
+
+        // Then
+        verify(postCounterJdbcRepository).applyViewCounts(Map.of(1L, 3L, 2L, 7L));
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 꺼낸 게시글 ID 를 되돌려 둔다")
+    void failedFoldRestoresPostIds() {
+        // Given
+        when(setOperations.pop(eq(VIEWED_POSTS_KEY), anyLong())).thenReturn(List.of("1"));
+        when(hyperLogLogOperations.size("post:views:1")).thenReturn(3L);
+        doThrow(new DataAccessResourceFailureException("DB 연결 실패"))
+                .when(postCounterJdbcRepository).applyViewCounts(any());
+
+        // When
+        postViewCounter.fold();
+
+        // Then
+        verify(setOperations).add(VIEWED_POSTS_KEY, "1");
+    }
+
+    @Test
+    @DisplayName("트랜잭션을 열지 못해도 꺼낸 게시글 ID 를 되돌려 둔다")
+    void failedTransactionRestoresPostIds() {
+        // Given
+        when(setOperations.pop(eq(VIEWED_POSTS_KEY), anyLong())).thenReturn(List.of("1", "2"));
+        doThrow(new CannotCreateTransactionException("커넥션 획득 실패"))
+                .when(transactionTemplate).executeWithoutResult(any());
+
+        // When
+        postViewCounter.fold();
+
+        // Then
+        verify(setOperations).add(VIEWED_POSTS_KEY, "1", "2");
+    }
+
+}
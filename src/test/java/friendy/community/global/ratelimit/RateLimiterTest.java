@@ -0,0 +1,91 @@
+package friendy.community.global.ratelimit;
+
+import friendy.community.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class RateLimiterTest {
+
+    private final RateLimiter rateLimiter = new RateLimiter(mock(StringRedisTemplate.class), new SimpleMeterRegistry());
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(rateLimiter, "redisEnabled", false);
+        rateLimiter.initialize();
+    }
+
+    @Test
+    @DisplayName("같은 이메일로 허용량을 넘겨 요청하면 429 예외와 재시도 시간을 반환한다")
+    void rejectsRequestsOverEmailCapacity() {
+        // Given
+        for (int i = 0; i < RateLimitPolicy.EMAIL_SEND.getEmailCapacity(); i++) {
+            rateLimiter.check(RateLimitPolicy.EMAIL_SEND, "example@friendy.com", "127.0.0.1");
+        }
+
+        // When & Then
+        assertThatThrownBy(() -> rateLimiter.check(RateLimitPolicy.EMAIL_SEND, "Example@Friendy.com", "127.0.0.2"))
+                .isInstanceOf(RateLimitExceededException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.TOO_MANY_REQUESTS)
+                .satisfies(exception -> assertThat(((RateLimitExceededException) exception).getRetryAfterSeconds())
+                        .isBetween(1L, RateLimitPolicy.EMAIL_SEND.getEmailRefillInterval().toSeconds()));
+    }
+
+    @Test
+    @DisplayName("같은 IP에서 허용량을 넘겨 요청하면 이메일이 달라도 거절한다")
+    void rejectsRequestsOverIpCapacity() {
+        // Given
+        for (int i = 0; i < RateLimitPolicy.LOGIN.getIpCapacity(); i++) {
+            rateLimiter.check(RateLimitPolicy.LOGIN, "user" + i + "@friendy.com", "10.0.0.1");
+        }
+
+        // When & Then
+        assertThatThrownBy(() -> rateLimiter.check(RateLimitPolicy.LOGIN, "other@friendy.com", "10.0.0.1"))
+                .isInstanceOf(RateLimitExceededException.class);
+    }
+
+    @Test
+    @DisplayName("거절된 요청은 다른 버킷의 토큰을 소모하지 않는다")
+    void rejectedRequestDoesNotConsumeOtherBuckets() {
+        // Given
+        LocalTokenBuckets localTokenBuckets = new LocalTokenBuckets();
+        LocalTokenBuckets.BucketSpec emailBucket = new LocalTokenBuckets.BucketSpec("email", 1, 60_000);
+        LocalTokenBuckets.BucketSpec ipBucket = new LocalTokenBuckets.BucketSpec("ip", 2, 60_000);
+        localTokenBuckets.tryAcquire(List.of(emailBucket, ipBucket), 0);
+
+        // When
+        long rejected = localTokenBuckets.tryAcquire(List.of(emailBucket, ipBucket), 0);
+        long ipOnly = localTokenBuckets.tryAcquire(List.of(ipBucket), 0);
+
+        // Then
+        assertThat(rejected).isEqualTo(60_000);
+        assertThat(ipOnly).isZero();
+    }
+
+    @Test
+    @DisplayName("토큰은 채움 간격이 지나면 하나씩 다시 채워진다")
+    void tokensAreRefilledOverTime() {
+        // Given
+        LocalTokenBuckets localTokenBuckets = new LocalTokenBuckets();
+        LocalTokenBuckets.BucketSpec bucket = new LocalTokenBuckets.BucketSpec("email", 1, 1_000);
+        localTokenBuckets.tryAcquire(List.of(bucket), 0);
+
+        // When
+        long beforeRefill = localTokenBuckets.tryAcquire(List.of(bucket), 400);
+        long afterRefill = localTokenBuckets.tryAcquire(List.of(bucket), 1_000);
+
+        // Then
+        assertThat(beforeRefill).isEqualTo(600);
+        assertThat(afterRefill).isZero();
+    }
+
+}